@@ -0,0 +1,40 @@
+// 플랫폼 스레드 / 가상 스레드 모드 비교용 k6 시나리오.
+// 같은 DB·같은 데이터로 두 번 실행해 http_reqs(처리량)와 http_req_duration p(99)를 비교합니다.
+// 아직 측정 결과가 없습니다. 실행하면 결과를 환경(CPU·메모리, DB, 데이터 건수)과 함께 README 의 "가상 스레드 모드" 절에 남깁니다.
+//
+//   SPRING_THREADS_VIRTUAL_ENABLED=false java -jar app.jar   # 기존 모드
+//   SPRING_THREADS_VIRTUAL_ENABLED=true  java -jar app.jar   # 가상 스레드 모드
+//   k6 run -e BASE_URL=http://localhost:8080 -e VUS=800 docs/load-test/virtual-threads.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = Number(__ENV.VUS || 800);
+
+export const options = {
+    scenarios: {
+        read_heavy: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: VUS },
+                { duration: '2m', target: VUS },
+                { duration: '15s', target: 0 },
+            ],
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export default function () {
+    const list = http.get(`${BASE_URL}/posts?page=0&size=10`, { tags: { name: 'post-list' } });
+    check(list, { 'post list 200': (r) => r.status === 200 });
+
+    const posts = list.status === 200 ? list.json('data.content') : null;
+    if (posts && posts.length > 0) {
+        const id = posts[Math.floor(Math.random() * posts.length)].id;
+        const post = http.get(`${BASE_URL}/posts/${id}`, { tags: { name: 'post' } });
+        check(post, { 'post 200': (r) => r.status === 200 });
+        http.get(`${BASE_URL}/comments/${id}`, { tags: { name: 'comments' } });
+    }
+}
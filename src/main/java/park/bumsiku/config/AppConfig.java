@@ -1,14 +1,69 @@
 package park.bumsiku.config;
 
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+/**
+ * 외부 연동(Discord 웹훅 등)이 함께 쓰는 HTTP 클라이언트.
+ * <p>
+ * 호스트별 커넥션 풀로 keep-alive 연결을 재사용하고, 연결·응답·풀 대기 시간에 상한을 둬
+ * 응답하지 않는 외부 서버가 호출 스레드를 붙잡지 않게 합니다.
+ * RestTemplateBuilder 로 만들어 호스트별 요청 지연이 http.client.requests 메트릭으로 기록됩니다.
+ */
 @Configuration
 public class AppConfig {
 
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager outboundConnectionManager(
+            @Value("${outbound.http.max-connections:50}") int maxConnections,
+            @Value("${outbound.http.max-connections-per-host:10}") int maxConnectionsPerHost,
+            @Value("${outbound.http.connect-timeout-millis:2000}") long connectTimeoutMillis,
+            @Value("${outbound.http.read-timeout-millis:5000}") long readTimeoutMillis) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerHost)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                        // 오래 쉰 연결은 재사용 전에 확인하고, 일정 시간이 지나면 새 연결로 교체
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient outboundHttpClient(
+            PoolingHttpClientConnectionManager outboundConnectionManager,
+            @Value("${outbound.http.read-timeout-millis:5000}") long readTimeoutMillis,
+            @Value("${outbound.http.pool-wait-millis:1000}") long poolWaitMillis) {
+        return HttpClients.custom()
+                .setConnectionManager(outboundConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolWaitMillis))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder, CloseableHttpClient outboundHttpClient) {
+        return restTemplateBuilder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(outboundHttpClient))
+                .build();
     }
 }
@@ -9,7 +9,7 @@ import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
 
 @Configuration
-@Profile("!test")
+@Profile("!test & !local-storage")
 public class AwsS3Config {
 
     @Bean
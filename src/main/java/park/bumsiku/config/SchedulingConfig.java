@@ -0,0 +1,39 @@
+package park.bumsiku.config;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import park.bumsiku.utils.concurrent.ThreadFactories;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * {@code @Scheduled} 작업 전용 스케줄러.
+ * <p>
+ * 기본 스케줄러는 스레드가 하나라서 웹훅 재시도를 기다리는 알림 릴레이가 이미지 GC 나 메트릭 갱신까지 멈추게 합니다.
+ * 작업마다 스레드를 따로 쓸 수 있도록 풀을 두며, 같은 작업이 겹쳐 실행되지는 않습니다(fixedDelay/cron).
+ */
+@Configuration
+public class SchedulingConfig implements SchedulingConfigurer {
+
+    private final ScheduledExecutorService scheduler;
+
+    public SchedulingConfig(
+            @Value("${scheduling.pool-size:4}") int poolSize,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.scheduler = Executors.newScheduledThreadPool(poolSize, ThreadFactories.named("scheduling-", virtualThreads));
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.setScheduler(scheduler);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
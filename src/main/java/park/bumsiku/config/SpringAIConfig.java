@@ -3,21 +3,47 @@ package park.bumsiku.config;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.openai.OpenAiChatModel;
 import org.springframework.ai.openai.OpenAiChatOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.http.client.ClientHttpRequestFactoryBuilder;
+import org.springframework.boot.http.client.ClientHttpRequestFactorySettings;
+import org.springframework.boot.web.client.RestClientCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
 public class SpringAIConfig {
 
     @Bean
-    public ChatClient openAiChatClient(OpenAiChatModel chatModel) {
-        OpenAiChatOptions defaultOptions = OpenAiChatOptions.builder()
+    public OpenAiChatOptions summaryChatOptions() {
+        return OpenAiChatOptions.builder()
                 .model("gpt-4.1-nano")
                 .temperature(0.5)
+                // 스트리밍 응답의 마지막 청크에 토큰 사용량을 포함
+                .streamUsage(true)
                 .build();
+    }
+
+    /**
+     * OpenAI 블로킹 호출이 쓰는 RestClient 에 연결·읽기 타임아웃을 둡니다.
+     * 마감을 넘겨 포기한 호출도 읽기 타임아웃이 지나면 소켓이 닫혀 bulkhead 허가를 돌려줍니다.
+     * RestClient 는 Spring AI 만 사용하므로 전역 커스터마이저로 등록합니다.
+     */
+    @Bean
+    public RestClientCustomizer llmRestClientCustomizer(
+            @Value("${llm.connect-timeout-millis:5000}") long connectTimeoutMillis,
+            @Value("${llm.timeout-millis:30000}") long timeoutMillis) {
+        ClientHttpRequestFactorySettings settings = ClientHttpRequestFactorySettings.defaults()
+                .withConnectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .withReadTimeout(Duration.ofMillis(timeoutMillis));
+        return builder -> builder.requestFactory(ClientHttpRequestFactoryBuilder.detect().build(settings));
+    }
 
+    @Bean
+    public ChatClient openAiChatClient(OpenAiChatModel chatModel, OpenAiChatOptions summaryChatOptions) {
         return ChatClient.builder(chatModel)
-                .defaultOptions(defaultOptions)
+                .defaultOptions(summaryChatOptions)
                 .build();
     }
 }
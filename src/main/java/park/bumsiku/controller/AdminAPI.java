@@ -12,10 +12,15 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import park.bumsiku.domain.dto.request.CreatePostRequest;
 import park.bumsiku.domain.dto.request.UpdatePostRequest;
+import park.bumsiku.domain.dto.response.ImageBatchResponse;
+import park.bumsiku.domain.dto.response.ImageGcResponse;
+import park.bumsiku.domain.dto.response.ImageJobResponse;
 import park.bumsiku.domain.dto.response.PostResponse;
 import park.bumsiku.domain.dto.response.Response;
+import park.bumsiku.domain.dto.response.SummaryBackfillResponse;
 import park.bumsiku.domain.dto.response.UploadImageResponse;
 
+import java.util.List;
 import java.util.Map;
 
 @Tag(name = "Admin API", description = "관리자 전용 API")
@@ -72,6 +77,105 @@ public interface AdminAPI {
             @RequestPart(value = "image", required = true) MultipartFile image
     );
 
+    @Operation(
+            summary = "이미지 비동기 업로드",
+            description = "이미지 변환/업로드를 작업 큐에 등록하고 작업 ID를 즉시 반환합니다 (관리자 전용, ?async=true)"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "작업 등록 성공",
+            content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ImageJobResponse.class)
+            )
+    )
+    @ApiResponse(responseCode = "400", description = "잘못된 요청")
+    @ApiResponse(responseCode = "401", description = "인증되지 않은 요청")
+    @ApiResponse(responseCode = "429", description = "처리 대기열 포화")
+    @ApiResponse(responseCode = "500", description = "서버 오류")
+    @PostMapping(
+            value = "/admin/images",
+            consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+            params = "async=true"
+    )
+    Response<ImageJobResponse> addImageAsync(
+            @Parameter(
+                    description = "이미지 파일",
+                    content = @Content(mediaType = MediaType.MULTIPART_FORM_DATA_VALUE)
+            )
+            @RequestPart(value = "image", required = true) MultipartFile image
+    );
+
+    @Operation(
+            summary = "이미지 일괄 업로드",
+            description = "여러 이미지를 한 번에 업로드합니다. 파일별로 검증/변환/업로드를 동시에 수행하며, "
+                    + "일부 파일이 실패해도 나머지는 계속 처리하고 입력 순서대로 파일별 결과를 반환합니다 (관리자 전용)"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "처리 완료 (파일별 성공/실패는 results 참고)",
+            content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ImageBatchResponse.class)
+            )
+    )
+    @ApiResponse(responseCode = "400", description = "파일이 없거나 개수 제한 초과")
+    @ApiResponse(responseCode = "401", description = "인증되지 않은 요청")
+    @ApiResponse(responseCode = "500", description = "서버 오류")
+    @PostMapping(
+            value = "/admin/images/batch",
+            consumes = MediaType.MULTIPART_FORM_DATA_VALUE
+    )
+    Response<ImageBatchResponse> addImages(
+            @Parameter(
+                    description = "이미지 파일 목록",
+                    content = @Content(mediaType = MediaType.MULTIPART_FORM_DATA_VALUE)
+            )
+            @RequestPart(value = "images", required = true) List<MultipartFile> images
+    );
+
+    @Operation(
+            summary = "이미지 업로드 작업 조회",
+            description = "비동기 이미지 업로드 작업의 상태와 최종 URL을 조회합니다 (관리자 전용)"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "OK",
+            content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ImageJobResponse.class)
+            )
+    )
+    @ApiResponse(responseCode = "401", description = "인증 실패")
+    @ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음")
+    @GetMapping("/admin/images/jobs/{jobId}")
+    Response<ImageJobResponse> getImageJob(
+            @Parameter(description = "조회할 작업 ID")
+            @PathVariable String jobId
+    );
+
+    @Operation(
+            summary = "미사용 이미지 정리",
+            description = "어떤 게시물에서도 참조하지 않고 유예 기간이 지난 이미지를 저장소에서 삭제하고 확보한 용량을 반환합니다. "
+                    + "dryRun=true 이면 삭제하지 않고 대상만 집계합니다 (관리자 전용)"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "정리 결과",
+            content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ImageGcResponse.class)
+            )
+    )
+    @ApiResponse(responseCode = "401", description = "인증 실패")
+    @ApiResponse(responseCode = "429", description = "정리 작업이 이미 실행 중")
+    @ApiResponse(responseCode = "500", description = "서버 오류")
+    @PostMapping("/admin/images/gc")
+    Response<ImageGcResponse> collectOrphanImages(
+            @Parameter(description = "삭제 없이 대상만 집계")
+            @RequestParam(defaultValue = "false") boolean dryRun
+    );
+
     @Operation(
             summary = "게시물 작성",
             description = "새 블로그 게시물을 작성합니다 (관리자 전용)"
@@ -139,4 +243,43 @@ public interface AdminAPI {
             @RequestBody UpdatePostRequest request
     );
 
+    @Operation(
+            summary = "게시물 요약 일괄 재생성",
+            description = "모든 게시물의 요약을 백그라운드에서 다시 생성합니다. "
+                    + "resume=true(기본)이면 완료되지 않은 마지막 작업을 체크포인트부터 이어서 처리합니다 (관리자 전용)"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "작업 시작",
+            content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = SummaryBackfillResponse.class)
+            )
+    )
+    @ApiResponse(responseCode = "401", description = "인증 실패")
+    @ApiResponse(responseCode = "429", description = "작업이 이미 실행 중")
+    @ApiResponse(responseCode = "500", description = "서버 오류")
+    @PostMapping("/admin/posts/summaries/backfill")
+    Response<SummaryBackfillResponse> startSummaryBackfill(
+            @Parameter(description = "중단된 작업 이어서 처리 여부")
+            @RequestParam(defaultValue = "true") boolean resume
+    );
+
+    @Operation(
+            summary = "게시물 요약 재생성 진행 상황",
+            description = "가장 최근 요약 재생성 작업의 진행 상황을 조회합니다 (관리자 전용)"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "OK",
+            content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = SummaryBackfillResponse.class)
+            )
+    )
+    @ApiResponse(responseCode = "401", description = "인증 실패")
+    @ApiResponse(responseCode = "404", description = "실행한 작업이 없음")
+    @GetMapping("/admin/posts/summaries/backfill")
+    Response<SummaryBackfillResponse> getSummaryBackfill();
+
 }
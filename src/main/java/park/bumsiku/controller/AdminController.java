@@ -7,13 +7,22 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import park.bumsiku.domain.dto.request.CreatePostRequest;
 import park.bumsiku.domain.dto.request.UpdatePostRequest;
+import park.bumsiku.domain.dto.response.ImageBatchResponse;
+import park.bumsiku.domain.dto.response.ImageGcResponse;
+import park.bumsiku.domain.dto.response.ImageJobResponse;
 import park.bumsiku.domain.dto.response.PostResponse;
 import park.bumsiku.domain.dto.response.Response;
+import park.bumsiku.domain.dto.response.SummaryBackfillResponse;
 import park.bumsiku.domain.dto.response.UploadImageResponse;
+import park.bumsiku.service.ImageBatchService;
+import park.bumsiku.service.ImageGcService;
+import park.bumsiku.service.ImageJobService;
 import park.bumsiku.service.PrivateService;
+import park.bumsiku.service.SummaryBackfillService;
 import park.bumsiku.utils.monitoring.LogExecutionTime;
 import park.bumsiku.utils.validation.ArgumentValidator;
 
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -23,6 +32,10 @@ import java.util.Map;
 public class AdminController implements AdminAPI {
 
     private PrivateService service;
+    private ImageJobService imageJobService;
+    private ImageBatchService imageBatchService;
+    private ImageGcService imageGcService;
+    private SummaryBackfillService summaryBackfillService;
     private ArgumentValidator validator;
 
 
@@ -51,6 +64,54 @@ public class AdminController implements AdminAPI {
         return Response.success(response);
     }
 
+    @Override
+    @PostMapping(
+            value = "/images",
+            consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+            params = "async=true"
+    )
+    @LogExecutionTime
+    public Response<ImageJobResponse> addImageAsync(
+            @RequestPart(value = "image", required = true) MultipartFile image
+    ) {
+        validator.validateImage(image);
+        ImageJobResponse response = imageJobService.submit(image);
+        return Response.success(response);
+    }
+
+    @Override
+    @PostMapping(
+            value = "/images/batch",
+            consumes = MediaType.MULTIPART_FORM_DATA_VALUE
+    )
+    @LogExecutionTime
+    public Response<ImageBatchResponse> addImages(
+            @RequestPart(value = "images", required = true) List<MultipartFile> images
+    ) {
+        ImageBatchResponse response = imageBatchService.upload(images);
+        return Response.success(response);
+    }
+
+    @Override
+    @GetMapping("/images/jobs/{jobId}")
+    @LogExecutionTime
+    public Response<ImageJobResponse> getImageJob(
+            @PathVariable String jobId
+    ) {
+        ImageJobResponse response = imageJobService.getJob(jobId);
+        return Response.success(response);
+    }
+
+    @Override
+    @PostMapping("/images/gc")
+    @LogExecutionTime
+    public Response<ImageGcResponse> collectOrphanImages(
+            @RequestParam(defaultValue = "false") boolean dryRun
+    ) {
+        ImageGcResponse response = imageGcService.run(dryRun);
+        return Response.success(response);
+    }
+
     @Override
     @PostMapping("/posts")
     @LogExecutionTime
@@ -85,4 +146,22 @@ public class AdminController implements AdminAPI {
         return Response.success(postResponse);
     }
 
+    @Override
+    @PostMapping("/posts/summaries/backfill")
+    @LogExecutionTime
+    public Response<SummaryBackfillResponse> startSummaryBackfill(
+            @RequestParam(defaultValue = "true") boolean resume
+    ) {
+        SummaryBackfillResponse response = summaryBackfillService.start(resume);
+        return Response.success(response);
+    }
+
+    @Override
+    @GetMapping("/posts/summaries/backfill")
+    @LogExecutionTime
+    public Response<SummaryBackfillResponse> getSummaryBackfill() {
+        SummaryBackfillResponse response = summaryBackfillService.getProgress();
+        return Response.success(response);
+    }
+
 }
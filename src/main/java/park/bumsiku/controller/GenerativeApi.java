@@ -5,11 +5,16 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import park.bumsiku.domain.dto.request.SummaryGenerationRequest;
 import park.bumsiku.domain.dto.response.Response;
 import park.bumsiku.domain.dto.response.SummaryGenerationResponse;
+import reactor.core.publisher.Flux;
+
+import java.util.Map;
 
 @Tag(name = "Generative AI", description = "생성형 AI 관련 API")
 public interface GenerativeApi {
@@ -29,4 +34,20 @@ public interface GenerativeApi {
     @PostMapping("/ai/summary")
     Response<SummaryGenerationResponse> generateSummary(@RequestBody SummaryGenerationRequest request);
 
+    @Operation(
+            summary = "텍스트 요약 스트리밍 생성",
+            description = "요약문을 생성되는 대로 Server-Sent Events 로 전송합니다. "
+                    + "토큰마다 token 이벤트({\"text\": ...})를, 완료 시 done 이벤트를, 실패 시 error 이벤트({\"message\": ...})를 보냅니다. "
+                    + "토큰 앞뒤 공백을 보존하기 위해 data 는 JSON 으로 전송합니다."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "OK",
+            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)
+    )
+    @ApiResponse(responseCode = "400", description = "잘못된 요청")
+    @ApiResponse(responseCode = "401", description = "인증 실패")
+    @PostMapping(value = "/ai/summary/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    Flux<ServerSentEvent<Map<String, String>>> streamSummary(@RequestBody SummaryGenerationRequest request);
+
 }
@@ -3,6 +3,8 @@ package park.bumsiku.controller;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -12,6 +14,10 @@ import park.bumsiku.domain.dto.response.Response;
 import park.bumsiku.domain.dto.response.SummaryGenerationResponse;
 import park.bumsiku.service.LlmService;
 import park.bumsiku.utils.monitoring.LogExecutionTime;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
 
 @Slf4j
 @RestController
@@ -31,5 +37,20 @@ public class GptController implements GenerativeApi {
                 .build();
         return Response.success(payload);
     }
-}
 
+    /**
+     * Flux 를 반환하므로 MVC 가 비동기로 처리해 생성이 끝날 때까지 서블릿 스레드를 점유하지 않습니다.
+     */
+    @Override
+    @PostMapping(value = "/summary/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Map<String, String>>> streamSummary(@RequestBody @Valid SummaryGenerationRequest request) {
+        return llmService.streamSummary(request.getText())
+                .map(token -> ServerSentEvent.builder(Map.of("text", token)).event("token").build())
+                .concatWith(Mono.just(ServerSentEvent.builder(Map.<String, String>of()).event("done").build()))
+                .onErrorResume(e -> {
+                    log.error("Summary streaming failed", e);
+                    String message = e instanceof IllegalArgumentException ? e.getMessage() : "요약 생성에 실패했습니다";
+                    return Mono.just(ServerSentEvent.builder(Map.of("message", message)).event("error").build());
+                });
+    }
+}
@@ -0,0 +1,33 @@
+package park.bumsiku.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+
+import java.io.IOException;
+
+@Tag(name = "Image API", description = "로컬 저장소 이미지 제공 API (local-storage 프로필)")
+public interface ImageAPI {
+
+    @Operation(
+            summary = "이미지 파일 조회",
+            description = "로컬 저장소에 저장된 이미지를 제공합니다. Range 요청과 ETag/Last-Modified 조건부 요청을 지원합니다."
+    )
+    @ApiResponse(responseCode = "200", description = "OK")
+    @ApiResponse(responseCode = "206", description = "Partial Content - Range 요청")
+    @ApiResponse(responseCode = "304", description = "Not Modified - 조건부 요청")
+    @ApiResponse(responseCode = "404", description = "이미지를 찾을 수 없음")
+    @ApiResponse(responseCode = "416", description = "Range Not Satisfiable - 요청 구간이 파일 범위를 벗어남")
+    @GetMapping("/images/{key}")
+    void getImage(
+            @Parameter(description = "이미지 키 (예: 0f8fad5b-...-640w.webp)")
+            @PathVariable("key") String key,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException;
+}
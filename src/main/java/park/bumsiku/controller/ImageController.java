@@ -0,0 +1,37 @@
+package park.bumsiku.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import park.bumsiku.repository.FileSystemImageRepository;
+import park.bumsiku.utils.image.ImageFileSender;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+
+@Slf4j
+@RestController
+@Profile("local-storage")
+@AllArgsConstructor
+public class ImageController implements ImageAPI {
+
+    private FileSystemImageRepository imageRepository;
+    private ImageFileSender imageFileSender;
+
+    @Override
+    @GetMapping("/images/{key}")
+    public void getImage(
+            @PathVariable("key") String key,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        Path file = imageRepository.find(key)
+                .orElseThrow(() -> new NoSuchElementException("Image not found with key: " + key));
+        imageFileSender.send(file, request, response);
+    }
+}
@@ -0,0 +1,40 @@
+package park.bumsiku.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
+
+@Tag(name = "Image Proxy API", description = "이미지 저장소 캐시 프록시 API (image.proxy.enabled=true)")
+public interface ImageProxyAPI {
+
+    @Operation(
+            summary = "이미지 프록시 조회",
+            description = "저장소의 이미지를 서버 캐시(메모리/디스크)를 거쳐 제공합니다. 이미지 키는 불변이므로 장기 캐시 헤더를 설정합니다. "
+                    + "Accept 가 WebP 를 받지 않으면(image/webp;q=0 이거나 image/webp, image/*, */* 중 해당 항목이 없으면) JPEG 로, Save-Data: on 이면 고압축 WebP 로 변환하며 변환본도 캐시됩니다."
+    )
+    @ApiResponse(responseCode = "200", description = "OK")
+    @ApiResponse(responseCode = "304", description = "Not Modified - ETag 일치")
+    @ApiResponse(responseCode = "400", description = "유효하지 않은 이미지 키")
+    @ApiResponse(responseCode = "404", description = "이미지를 찾을 수 없음")
+    @GetMapping("/img/{key}")
+    ResponseEntity<Resource> getImage(
+            @Parameter(description = "이미지 키 (예: 0f8fad5b-...-640w.webp)")
+            @PathVariable("key") String key,
+            @Parameter(description = "요청 너비 (설정된 반응형 너비 중 이상인 가장 작은 값으로 맞춤)")
+            @RequestParam(value = "w", required = false) Integer width,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = "Save-Data", required = false) String saveData,
+            WebRequest request,
+            HttpServletResponse response
+    );
+}
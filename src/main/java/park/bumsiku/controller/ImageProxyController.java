@@ -0,0 +1,67 @@
+package park.bumsiku.controller;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import park.bumsiku.service.ImageProxyService;
+import park.bumsiku.utils.image.ImageFormat;
+import park.bumsiku.utils.monitoring.LogExecutionTime;
+
+import java.time.Duration;
+
+@Slf4j
+@RestController
+@ConditionalOnProperty(name = "image.proxy.enabled", havingValue = "true")
+@AllArgsConstructor
+public class ImageProxyController implements ImageProxyAPI {
+
+    private static final String SAVE_DATA = "Save-Data";
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
+    private ImageProxyService imageProxyService;
+
+    @Override
+    @GetMapping("/img/{key}")
+    @LogExecutionTime
+    public ResponseEntity<Resource> getImage(
+            @PathVariable("key") String key,
+            @RequestParam(value = "w", required = false) Integer width,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = SAVE_DATA, required = false) String saveData,
+            WebRequest request,
+            HttpServletResponse response) {
+        ImageFormat format = ImageFormat.negotiate(accept, saveData);
+        String variantKey = imageProxyService.variantKey(key, format, width);
+
+        // 304 응답도 공유 캐시가 형식별로 구분해 저장하도록 조건부 요청 처리 전에 캐시 헤더를 설정
+        response.setHeader(HttpHeaders.CACHE_CONTROL, IMMUTABLE.getHeaderValue());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT + ", " + SAVE_DATA);
+
+        // 키가 같으면 내용도 같으므로 캐시를 조회하기 전에 조건부 요청을 처리 (ETag 헤더도 여기서 설정됨)
+        if (request.checkNotModified(variantKey)) {
+            return null;
+        }
+
+        Resource image = imageProxyService.get(key, format, width);
+        MediaType contentType = variantKey.equals(key)
+                ? MediaTypeFactory.getMediaType(key).orElse(MediaType.APPLICATION_OCTET_STREAM)
+                : format.getMediaType();
+
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .body(image);
+    }
+}
@@ -22,7 +22,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 import park.bumsiku.domain.dto.request.LoginRequest;
-import park.bumsiku.utils.integration.DiscordWebhookCreator;
+import park.bumsiku.service.NotificationOutboxService;
 
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -36,7 +36,7 @@ public class LoginController {
     private static final Logger log = LoggerFactory.getLogger(LoginController.class);
 
     private final AuthenticationManager authenticationManager;
-    private final DiscordWebhookCreator discordWebhookCreator;
+    private final NotificationOutboxService notificationOutboxService;
 
     @Operation(
             summary = "로그인",
@@ -79,11 +79,16 @@ public class LoginController {
 
             log.info("Login successful for user: {}", loginRequest.getUsername());
             ZonedDateTime now = ZonedDateTime.now(ZoneId.of("Asia/Seoul"));
-            discordWebhookCreator.sendMessage(String.format("🔑 사용자 '%s'이 %s %s에 로그인했습니다.",
-                    loginRequest.getUsername(),
-                    now.format(DateTimeFormatter.ofPattern("yyyy년 MM월 dd일")),
-                    now.format(DateTimeFormatter.ofPattern("HH시 mm분 ss초")))
-            );
+            try {
+                notificationOutboxService.enqueue(String.format("🔑 사용자 '%s'이 %s %s에 로그인했습니다.",
+                        loginRequest.getUsername(),
+                        now.format(DateTimeFormatter.ofPattern("yyyy년 MM월 dd일")),
+                        now.format(DateTimeFormatter.ofPattern("HH시 mm분 ss초")))
+                );
+            } catch (RuntimeException e) {
+                // 알림 기록 실패로 로그인 자체를 실패시키지 않음
+                log.error("Failed to record login notification for user: {}", loginRequest.getUsername(), e);
+            }
             return ResponseEntity.ok().build();
         } catch (Exception e) {
             log.warn("Login failed for user: {} - Reason: {}", loginRequest.getUsername(), e.getMessage());
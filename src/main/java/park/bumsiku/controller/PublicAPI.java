@@ -45,7 +45,9 @@ public interface PublicAPI {
             @Parameter(description = "페이지 크기")
             @RequestParam(defaultValue = "10") int size,
             @Parameter(description = "정렬 기준 (예: createdAt,desc)")
-            @RequestParam(defaultValue = "createdAt,desc") String sort
+            @RequestParam(defaultValue = "createdAt,desc") String sort,
+            @Parameter(description = "전체 건수 계산 방식 (exact: 정확한 값, estimate: 최근 계산한 값, none: 계산하지 않음)")
+            @RequestParam(defaultValue = "exact") String count
     );
 
     @Operation(
@@ -146,5 +148,24 @@ public interface PublicAPI {
     @GetMapping("/tags")
     Response<List<TagResponse>> getTags();
 
+    @Operation(
+            summary = "이미지 메타데이터 조회",
+            description = "업로드된 이미지 URL의 너비/높이와 저화질 흐림 미리보기(data URI)를 조회합니다. 본문 렌더링 시 이미지를 받지 않고 자리를 잡는 데 사용합니다."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "OK",
+            content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = Response.class)
+            )
+    )
+    @ApiResponse(responseCode = "404", description = "등록되지 않은 이미지 URL")
+    @GetMapping("/images/metadata")
+    Response<ImageMetadataResponse> getImageMetadata(
+            @Parameter(description = "업로드 응답으로 받은 이미지 URL")
+            @RequestParam("url") String url
+    );
+
     // 이전: /posts/by-tag는 /posts?tag= 로 통합되었습니다.
 }
@@ -8,6 +8,7 @@ import park.bumsiku.domain.dto.request.CommentRequest;
 import park.bumsiku.domain.dto.response.*;
 import park.bumsiku.service.PublicService;
 import park.bumsiku.utils.monitoring.LogExecutionTime;
+import park.bumsiku.utils.paging.CountMode;
 import park.bumsiku.utils.validation.ArgumentValidator;
 
 import java.util.List;
@@ -35,13 +36,15 @@ public class PublicController implements PublicAPI {
             @RequestParam(value = "tag", required = false) String tagName,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(defaultValue = "createdAt,desc") String sort) {
+            @RequestParam(defaultValue = "createdAt,desc") String sort,
+            @RequestParam(defaultValue = "exact") String count) {
         validator.validatePagination(page, size);
+        CountMode countMode = CountMode.fromParameter(count);
         PostListResponse result;
         if (tagName != null && !tagName.isBlank()) {
-            result = service.getPostsByTag(tagName, page, size, sort);
+            result = service.getPostsByTag(tagName, page, size, sort, countMode);
         } else {
-            result = service.getPostList(page, size, sort);
+            result = service.getPostList(page, size, sort, countMode);
         }
         return Response.success(result);
     }
@@ -107,4 +110,13 @@ public class PublicController implements PublicAPI {
         List<TagResponse> tags = service.getAllActiveTagsWithPosts();
         return Response.success(tags);
     }
+
+    @Override
+    @GetMapping("/images/metadata")
+    @LogExecutionTime
+    public Response<ImageMetadataResponse> getImageMetadata(
+            @RequestParam("url") String url) {
+        ImageMetadataResponse result = service.getImageMetadata(url);
+        return Response.success(result);
+    }
 }
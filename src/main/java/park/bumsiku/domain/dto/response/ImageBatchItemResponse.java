@@ -0,0 +1,18 @@
+package park.bumsiku.domain.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImageBatchItemResponse {
+    private int index;
+    private String filename;
+    private boolean success;
+    private UploadImageResponse image;
+    private String error;
+}
@@ -0,0 +1,18 @@
+package park.bumsiku.domain.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImageBatchResponse {
+    private List<ImageBatchItemResponse> results;
+    private int succeeded;
+    private int failed;
+}
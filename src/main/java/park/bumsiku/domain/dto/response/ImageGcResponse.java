@@ -0,0 +1,20 @@
+package park.bumsiku.domain.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImageGcResponse {
+    private boolean dryRun;
+    private int scannedPosts;
+    private int scannedImages;
+    private int deletedImages;
+    private int deletedObjects;
+    private int failedObjects;
+    private long reclaimedBytes;
+}
@@ -0,0 +1,20 @@
+package park.bumsiku.domain.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImageJobResponse {
+    private String jobId;
+    private String status;
+    private String url;
+    private Long size;
+    private String error;
+    private String createdAt;
+    private String completedAt;
+}
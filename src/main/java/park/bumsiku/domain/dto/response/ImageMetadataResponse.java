@@ -0,0 +1,17 @@
+package park.bumsiku.domain.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImageMetadataResponse {
+    private String url;
+    private int width;
+    private Integer height;
+    private String placeholder;
+}
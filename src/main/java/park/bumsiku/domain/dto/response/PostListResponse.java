@@ -13,7 +13,10 @@ import java.util.List;
 @Builder
 public class PostListResponse {
     private List<PostSummaryResponse> content;
-    private int totalElements;
+    /**
+     * count=none 이면 null
+     */
+    private Integer totalElements;
     private int pageNumber;
     private int pageSize;
 }
\ No newline at end of file
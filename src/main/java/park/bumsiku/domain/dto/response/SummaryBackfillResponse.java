@@ -0,0 +1,24 @@
+package park.bumsiku.domain.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SummaryBackfillResponse {
+    private Long jobId;
+    private String status;
+    private boolean active;
+    private int totalPosts;
+    private int processedPosts;
+    private int failedPosts;
+    private int lastPostId;
+    private String lastError;
+    private String startedAt;
+    private String updatedAt;
+    private String finishedAt;
+}
@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -12,4 +14,9 @@ import lombok.NoArgsConstructor;
 public class UploadImageResponse {
     private String url;
     private long size;
-}
\ No newline at end of file
+    private List<ImageVariantResponse> variants;
+    private String srcset;
+    private int width;
+    private Integer height;
+    private String placeholder;
+}
@@ -0,0 +1,31 @@
+package park.bumsiku.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아직 발송하지 않은 알림. 알림을 만든 작업과 같은 트랜잭션에 기록되어 커밋된 작업의 알림만 남고,
+ * 발송에 성공하면 릴레이가 행을 지웁니다.
+ */
+@Entity
+@Table(name = "notification_outbox")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Lob
+    @Column(nullable = false)
+    private String message;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
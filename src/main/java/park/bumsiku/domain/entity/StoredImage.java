@@ -0,0 +1,74 @@
+package park.bumsiku.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 업로드된 원본(sourceHash)과 저장된 WebP 변형(contentHash, storageKey)의 대응 관계.
+ * 같은 원본이나 같은 인코딩 결과가 다시 들어오면 저장소에 올리지 않고 기존 URL을 재사용합니다.
+ */
+@Entity
+@Table(
+        name = "stored_images",
+        indexes = {
+                @Index(name = "idx_stored_images_source_hash", columnList = "source_hash"),
+                @Index(name = "idx_stored_images_content_hash", columnList = "content_hash")
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StoredImage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "source_hash", nullable = false, length = 64)
+    private String sourceHash;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "storage_key", nullable = false)
+    private String storageKey;
+
+    @Column(nullable = false)
+    private String url;
+
+    @Column(nullable = false)
+    private int width;
+
+    private Integer height;
+
+    // 원본 기준 LQIP (data URI). 같은 원본의 모든 변형이 같은 값을 가짐
+    @Column(length = 1000)
+    private String placeholder;
+
+    @Column(nullable = false)
+    private long size;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    // 같은 원본이 다시 업로드되어 재사용된 마지막 시각. 이미지 정리의 유예 기간은 이 시각부터 셈
+    @Column(name = "last_used_at")
+    private LocalDateTime lastUsedAt;
+
+    @PrePersist
+    public void prePersist() {
+        this.createdAt = LocalDateTime.now();
+        this.lastUsedAt = this.createdAt;
+    }
+
+    /**
+     * 마지막으로 사용된 시각. 컬럼이 추가되기 전에 저장된 행은 생성 시각을 사용합니다.
+     */
+    public LocalDateTime lastUsed() {
+        return lastUsedAt != null ? lastUsedAt : createdAt;
+    }
+}
@@ -0,0 +1,55 @@
+package park.bumsiku.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시물 요약 재생성 작업과 체크포인트.
+ * lastPostId 까지의 게시물은 요약이 반영되었으므로, 중단된 작업은 그 다음 id 부터 이어서 처리합니다.
+ */
+@Entity
+@Table(name = "summary_backfill_jobs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SummaryBackfillJob {
+
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    @Column(nullable = false)
+    private int lastPostId;
+
+    @Column(nullable = false)
+    private int totalPosts;
+
+    @Column(nullable = false)
+    private int processedPosts;
+
+    @Column(nullable = false)
+    private int failedPosts;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @Column(nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime finishedAt;
+}
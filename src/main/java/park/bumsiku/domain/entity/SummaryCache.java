@@ -0,0 +1,39 @@
+package park.bumsiku.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 요약 생성 결과 캐시. 키는 (모델 옵션, 프롬프트, 원문) 의 SHA-256 이라
+ * 같은 초안으로 다시 요청하면 모델을 호출하지 않고 저장된 요약을 돌려줍니다.
+ */
+@Entity
+@Table(name = "summary_cache")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SummaryCache {
+
+    @Id
+    @Column(name = "cache_key", length = 64)
+    private String cacheKey;
+
+    @Lob
+    @Column(nullable = false)
+    private String summary;
+
+    @Column(nullable = false)
+    private String model;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    public void prePersist() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,9 @@
+package park.bumsiku.domain.event;
+
+import java.util.Set;
+
+/**
+ * 이미지 GC 가 저장소에서 객체를 지웠음을 알립니다. 캐시가 지워진 키의 사본을 비우는 데 씁니다.
+ */
+public record ImagesDeletedEvent(Set<String> storageKeys) {
+}
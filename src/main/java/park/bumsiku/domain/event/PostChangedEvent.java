@@ -0,0 +1,7 @@
+package park.bumsiku.domain.event;
+
+/**
+ * 게시물이 작성/수정/삭제되었음을 알립니다. 트랜잭션 커밋 후에 처리됩니다.
+ */
+public record PostChangedEvent(Integer postId) {
+}
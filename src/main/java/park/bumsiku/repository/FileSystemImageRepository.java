@@ -0,0 +1,179 @@
+package park.bumsiku.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 로컬 디렉터리에 이미지를 저장하는 저장소 (self-hosted/부하 테스트용).
+ * 같은 디렉터리의 임시 파일에 쓴 뒤 원자적 rename 으로 확정하므로,
+ * 읽는 쪽은 완성된 파일만 보게 됩니다.
+ */
+@Slf4j
+@Repository
+@Profile("local-storage")
+public class FileSystemImageRepository implements ImageRepository {
+
+    private static final String TEMP_PREFIX = ".upload-";
+
+    private final Path root;
+    private final String baseUrl;
+
+    public FileSystemImageRepository(
+            @Value("${image.storage.local.path:./data/images}") String path,
+            @Value("${image.storage.local.base-url:/images}") String baseUrl) {
+        this.root = Path.of(path).toAbsolutePath().normalize();
+        this.baseUrl = baseUrl;
+        try {
+            Files.createDirectories(root);
+        } catch (IOException e) {
+            throw new UncheckedIOException("이미지 저장 디렉터리 생성 실패: " + root, e);
+        }
+    }
+
+    @Override
+    public ImageUpload openUpload(String filename) {
+        Path target = resolve(filename);
+        Path temp = root.resolve(TEMP_PREFIX + UUID.randomUUID());
+        try {
+            FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            return new FileUpload(channel, temp, target, urlOf(filename));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public InputStream load(String filename) {
+        Path path = find(filename)
+                .orElseThrow(() -> new NoSuchElementException("Image not found with key: " + filename));
+        try {
+            return Files.newInputStream(path);
+        } catch (NoSuchFileException e) {
+            throw new NoSuchElementException("Image not found with key: " + filename);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void delete(String filename) {
+        try {
+            Files.deleteIfExists(resolve(filename));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Set<String> deleteAll(Collection<String> filenames) {
+        Set<String> failed = new HashSet<>();
+        for (String filename : filenames) {
+            try {
+                delete(filename);
+            } catch (UncheckedIOException e) {
+                log.warn("Failed to delete image {}", filename, e);
+                failed.add(filename);
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * 저장된 이미지 파일 경로를 반환합니다. 없거나 업로드 중인 임시 파일이면 빈 값입니다.
+     */
+    public Optional<Path> find(String filename) {
+        Path path = resolve(filename);
+        if (path.getFileName().toString().startsWith(TEMP_PREFIX) || !Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        return Optional.of(path);
+    }
+
+    private Path resolve(String filename) {
+        Path path = root.resolve(filename).normalize();
+        if (!path.getParent().equals(root)) {
+            throw new IllegalArgumentException("유효하지 않은 이미지 키입니다: " + filename);
+        }
+        return path;
+    }
+
+    private String urlOf(String filename) {
+        return String.format("%s/%s", baseUrl, filename);
+    }
+
+    private static final class FileUpload extends ImageUpload {
+
+        private final FileChannel channel;
+        private final OutputStream out;
+        private final Path temp;
+        private final Path target;
+        private final String url;
+        private boolean completed;
+        private boolean closed;
+
+        private FileUpload(FileChannel channel, Path temp, Path target, String url) {
+            this.channel = channel;
+            this.out = Channels.newOutputStream(channel);
+            this.temp = temp;
+            this.target = target;
+            this.url = url;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public String complete() throws IOException {
+            channel.force(true);
+            channel.close();
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                log.warn("Atomic move not supported for {}, falling back to plain move", target);
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            completed = true;
+            return url;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            channel.close();
+            if (!completed) {
+                Files.deleteIfExists(temp);
+            }
+        }
+    }
+}
@@ -1,36 +1,29 @@
 package park.bumsiku.repository;
 
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.stereotype.Repository;
-import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Set;
 
-@Repository
-public class ImageRepository {
+/**
+ * 인코딩된 이미지 저장소.
+ * 기본은 S3, {@code local-storage} 프로필에서는 로컬 디렉터리를 사용합니다.
+ */
+public interface ImageRepository {
 
-    private final S3Client s3;
-    private final String bucket;
-    private final String baseUrl;
+    /**
+     * 주어진 키로 스트리밍 업로드를 시작합니다.
+     */
+    ImageUpload openUpload(String filename);
 
-    public ImageRepository(
-            S3Client s3Client,
-            @Value("${aws.s3.bucket}") String bucket,
-            @Value("${aws.s3.bucket.url}") String baseUrl) {
-        this.s3 = s3Client;
-        this.bucket = bucket;
-        this.baseUrl = baseUrl;
-    }
+    /**
+     * 저장된 이미지를 읽는 스트림을 엽니다. 없으면 {@link java.util.NoSuchElementException}.
+     */
+    InputStream load(String filename);
 
-    public String insert(String filename, byte[] webpBytes) {
-        PutObjectRequest req = PutObjectRequest.builder()
-                .bucket(bucket)
-                .key(filename)
-                .contentType("image/webp")
-                .contentLength((long) webpBytes.length)
-                .acl("public-read")   // 퍼블릭 읽기 권한
-                .build();
-        s3.putObject(req, RequestBody.fromBytes(webpBytes));
-        return String.format("%s/%s", baseUrl, filename);
-    }
+    void delete(String filename);
+
+    /**
+     * 여러 키를 한 번에 삭제합니다. 없는 키는 무시하며, 삭제하지 못한 키를 반환합니다.
+     */
+    Set<String> deleteAll(Collection<String> filenames);
 }
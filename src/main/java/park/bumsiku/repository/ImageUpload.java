@@ -0,0 +1,16 @@
+package park.bumsiku.repository;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 인코딩 결과를 저장소로 흘려보내는 스트리밍 업로드 핸들.
+ * {@link #complete()} 로 업로드를 확정하며, 확정 전에 닫히면 업로드를 취소합니다.
+ */
+public abstract class ImageUpload extends OutputStream {
+
+    /**
+     * 업로드를 확정하고 공개 URL을 반환합니다.
+     */
+    public abstract String complete() throws IOException;
+}
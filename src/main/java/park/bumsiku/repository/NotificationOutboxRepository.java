@@ -0,0 +1,17 @@
+package park.bumsiku.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import park.bumsiku.domain.entity.NotificationOutbox;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    List<NotificationOutbox> findAllByOrderByIdAsc(Pageable pageable);
+
+    Optional<NotificationOutbox> findFirstByOrderByIdAsc();
+}
@@ -0,0 +1,11 @@
+package park.bumsiku.repository;
+
+import park.bumsiku.domain.entity.Post;
+
+import java.util.List;
+
+/**
+ * 게시물 한 페이지와 조건에 맞는 전체 게시물 수.
+ */
+public record PostPage(List<Post> posts, int totalElements) {
+}
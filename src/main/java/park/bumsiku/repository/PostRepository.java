@@ -7,6 +7,7 @@ import org.springframework.stereotype.Repository;
 import park.bumsiku.domain.entity.Post;
 
 import java.util.List;
+import java.util.function.IntSupplier;
 
 @Repository
 public class PostRepository {
@@ -44,6 +45,18 @@ public class PostRepository {
     }
 
 
+    /**
+     * 한 페이지와 전체 건수를 COUNT(*) OVER() 로 한 번의 쿼리에서 가져옵니다.
+     * 페이지가 비어 전체 건수를 알 수 없으면 count 쿼리로 보충합니다.
+     */
+    public PostPage findPageWithTotal(int page, int size, String orderByClause) {
+        String jpql = "SELECT p, COUNT(p.id) OVER () FROM Post p " + orderByClause;
+        TypedQuery<Object[]> query = entityManager.createQuery(jpql, Object[].class);
+        query.setFirstResult(page * size);
+        query.setMaxResults(size);
+        return toPage(query.getResultList(), page, this::countAll);
+    }
+
     public int countAll() {
         String jpql = "SELECT COUNT(p) FROM Post p";
         TypedQuery<Long> query = entityManager.createQuery(jpql, Long.class);
@@ -60,6 +73,18 @@ public class PostRepository {
         return query.getResultList();
     }
 
+    /**
+     * 태그별 목록을 {@link #findPageWithTotal(int, int, String)} 와 같은 방식으로 조회합니다.
+     */
+    public PostPage findPageWithTotalByTagName(String tagName, int page, int size, String orderByClause) {
+        String jpql = "SELECT p, COUNT(p.id) OVER () FROM Post p WHERE p.id IN (SELECT DISTINCT pt.id FROM Post pt JOIN pt.tags t WHERE t.name = :tagName) " + orderByClause;
+        TypedQuery<Object[]> query = entityManager.createQuery(jpql, Object[].class);
+        query.setParameter("tagName", tagName);
+        query.setFirstResult(page * size);
+        query.setMaxResults(size);
+        return toPage(query.getResultList(), page, () -> countByTagName(tagName));
+    }
+
     public int countByTagName(String tagName) {
         String jpql = "SELECT COUNT(DISTINCT p.id) FROM Post p JOIN p.tags t WHERE t.name = :tagName";
         TypedQuery<Long> query = entityManager.createQuery(jpql, Long.class);
@@ -67,10 +92,42 @@ public class PostRepository {
         return query.getSingleResult().intValue();
     }
 
+    /**
+     * id 오름차순으로 lastId 이후 게시물의 (id, content) 를 최대 size 건 조회합니다.
+     * 전체 게시물을 키셋 방식으로 나눠 훑을 때 사용합니다.
+     */
+    public List<Object[]> findContentsAfter(int lastId, int size) {
+        String jpql = "SELECT p.id, p.content FROM Post p WHERE p.id > :lastId ORDER BY p.id";
+        TypedQuery<Object[]> query = entityManager.createQuery(jpql, Object[].class);
+        query.setParameter("lastId", lastId);
+        query.setMaxResults(size);
+        return query.getResultList();
+    }
+
+    /**
+     * 요약만 바꿉니다. 본문 수정이 아니므로 updatedAt 은 그대로 둡니다. 트랜잭션 안에서 호출해야 합니다.
+     */
+    public int updateSummary(int id, String summary) {
+        String jpql = "UPDATE Post p SET p.summary = :summary WHERE p.id = :id";
+        return entityManager.createQuery(jpql)
+                .setParameter("summary", summary)
+                .setParameter("id", id)
+                .executeUpdate();
+    }
+
     public List<String> findRecentSummaries(int count) {
         String jpql = "SELECT p.summary FROM Post p ORDER BY p.createdAt DESC";
         TypedQuery<String> query = entityManager.createQuery(jpql, String.class);
         query.setMaxResults(count);
         return query.getResultList();
     }
+
+    private static PostPage toPage(List<Object[]> rows, int page, IntSupplier count) {
+        if (rows.isEmpty()) {
+            // 마지막 페이지를 넘긴 요청은 행이 없어 창 함수 값도 없음
+            return new PostPage(List.of(), page == 0 ? 0 : count.getAsInt());
+        }
+        List<Post> posts = rows.stream().map(row -> (Post) row[0]).toList();
+        return new PostPage(posts, ((Number) rows.get(0)[1]).intValue());
+    }
 }
@@ -0,0 +1,98 @@
+package park.bumsiku.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+@Slf4j
+@Repository
+@Profile("!local-storage")
+public class S3ImageRepository implements ImageRepository {
+
+    private static final String CONTENT_TYPE = "image/webp";
+    // DeleteObjects 한 번에 보낼 수 있는 최대 키 수
+    private static final int DELETE_BATCH_SIZE = 1000;
+
+    private final S3Client s3;
+    private final String bucket;
+    private final String baseUrl;
+    private final int partSize;
+
+    public S3ImageRepository(
+            S3Client s3Client,
+            @Value("${aws.s3.bucket}") String bucket,
+            @Value("${aws.s3.bucket.url}") String baseUrl,
+            @Value("${aws.s3.multipart.part-size:5242880}") int partSize) {
+        this.s3 = s3Client;
+        this.bucket = bucket;
+        this.baseUrl = baseUrl;
+        this.partSize = partSize;
+    }
+
+    @Override
+    public ImageUpload openUpload(String filename) {
+        return new S3MultipartOutputStream(s3, bucket, filename, CONTENT_TYPE, urlOf(filename), partSize);
+    }
+
+    @Override
+    public InputStream load(String filename) {
+        try {
+            return s3.getObject(GetObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(filename)
+                    .build());
+        } catch (NoSuchKeyException e) {
+            throw new NoSuchElementException("Image not found with key: " + filename);
+        }
+    }
+
+    @Override
+    public void delete(String filename) {
+        s3.deleteObject(DeleteObjectRequest.builder()
+                .bucket(bucket)
+                .key(filename)
+                .build());
+    }
+
+    @Override
+    public Set<String> deleteAll(Collection<String> filenames) {
+        Set<String> failed = new HashSet<>();
+        List<ObjectIdentifier> objects = filenames.stream()
+                .map(key -> ObjectIdentifier.builder().key(key).build())
+                .toList();
+        for (int from = 0; from < objects.size(); from += DELETE_BATCH_SIZE) {
+            List<ObjectIdentifier> batch = new ArrayList<>(
+                    objects.subList(from, Math.min(from + DELETE_BATCH_SIZE, objects.size())));
+            DeleteObjectsResponse response = s3.deleteObjects(DeleteObjectsRequest.builder()
+                    .bucket(bucket)
+                    .delete(Delete.builder().objects(batch).quiet(true).build())
+                    .build());
+            response.errors().forEach(error -> {
+                log.warn("Failed to delete image {}: {} {}", error.key(), error.code(), error.message());
+                failed.add(error.key());
+            });
+        }
+        return failed;
+    }
+
+    private String urlOf(String filename) {
+        return String.format("%s/%s", baseUrl, filename);
+    }
+}
@@ -0,0 +1,164 @@
+package park.bumsiku.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 파트 크기만큼만 버퍼링하며 S3 멀티파트 업로드로 흘려보내는 스트림.
+ * 버퍼는 쓰는 만큼 파트 크기까지 늘어나므로 작은 결과물은 그 크기만큼만 힙을 쓰고 단일 PUT 으로 업로드되며,
+ * 큰 결과물도 업로드당 힙 사용량은 파트 버퍼 하나로 제한됩니다.
+ */
+@Slf4j
+class S3MultipartOutputStream extends ImageUpload {
+
+    static final int MIN_PART_SIZE = 5 * 1024 * 1024; // S3 최소 파트 크기
+    static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+    private final S3Client s3;
+    private final String bucket;
+    private final String key;
+    private final String contentType;
+    private final String url;
+    private final int partSize;
+    private byte[] buffer = new byte[0];
+    private final List<CompletedPart> parts = new ArrayList<>();
+
+    private int position;
+    private String uploadId;
+    private boolean completed;
+    private boolean closed;
+
+    S3MultipartOutputStream(S3Client s3, String bucket, String key, String contentType, String url, int partSize) {
+        this.s3 = s3;
+        this.bucket = bucket;
+        this.key = key;
+        this.contentType = contentType;
+        this.url = url;
+        this.partSize = Math.max(partSize, MIN_PART_SIZE);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureWritable();
+        if (position == buffer.length) {
+            makeRoom(1);
+        }
+        buffer[position++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        ensureWritable();
+        Objects.checkFromIndexSize(off, len, b.length);
+        while (len > 0) {
+            if (position == buffer.length) {
+                makeRoom(len);
+            }
+            int chunk = Math.min(len, buffer.length - position);
+            System.arraycopy(b, off, buffer, position, chunk);
+            position += chunk;
+            off += chunk;
+            len -= chunk;
+        }
+    }
+
+    @Override
+    public String complete() throws IOException {
+        ensureWritable();
+        if (uploadId == null) {
+            s3.putObject(PutObjectRequest.builder()
+                            .bucket(bucket)
+                            .key(key)
+                            .contentType(contentType)
+                            .contentLength((long) position)
+                            .acl("public-read")   // 퍼블릭 읽기 권한
+                            .build(),
+                    bufferedBody());
+        } else {
+            if (position > 0) {
+                uploadPart();
+            }
+            s3.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+        }
+        completed = true;
+        return url;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (!completed && uploadId != null) {
+            try {
+                s3.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .build());
+            } catch (RuntimeException e) {
+                log.warn("Failed to abort multipart upload {} for key: {}", uploadId, key, e);
+            }
+        }
+    }
+
+    /**
+     * 버퍼가 파트 크기보다 작으면 늘리고, 이미 파트 크기이면 채워진 파트를 업로드해 비웁니다.
+     */
+    private void makeRoom(int wanted) {
+        if (buffer.length < partSize) {
+            int grown = Math.max(Math.max(INITIAL_BUFFER_SIZE, buffer.length * 2), position + wanted);
+            buffer = Arrays.copyOf(buffer, Math.min(partSize, grown));
+        } else {
+            uploadPart();
+        }
+    }
+
+    private void uploadPart() {
+        if (uploadId == null) {
+            uploadId = s3.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .contentType(contentType)
+                    .acl("public-read")
+                    .build()).uploadId();
+        }
+        int partNumber = parts.size() + 1;
+        UploadPartResponse response = s3.uploadPart(UploadPartRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .contentLength((long) position)
+                        .build(),
+                bufferedBody());
+        parts.add(CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build());
+        position = 0;
+    }
+
+    private RequestBody bufferedBody() {
+        // fromBytes 는 배열을 복사하므로 버퍼를 그대로 감싸 전달
+        return RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, position), position);
+    }
+
+    private void ensureWritable() throws IOException {
+        if (closed || completed) {
+            throw new IOException("Upload already finished for key: " + key);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package park.bumsiku.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import park.bumsiku.domain.entity.StoredImage;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StoredImageRepository extends JpaRepository<StoredImage, Long> {
+
+    List<StoredImage> findAllBySourceHashOrderByWidthAsc(String sourceHash);
+
+    Optional<StoredImage> findFirstByContentHash(String contentHash);
+
+    Optional<StoredImage> findFirstByUrl(String url);
+
+    List<StoredImage> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    /**
+     * 같은 원본의 모든 변형을 방금 사용한 것으로 표시해 이미지 정리 유예 기간을 다시 시작합니다.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE StoredImage s SET s.lastUsedAt = :usedAt WHERE s.sourceHash = :sourceHash")
+    int touchBySourceHash(@Param("sourceHash") String sourceHash, @Param("usedAt") LocalDateTime usedAt);
+}
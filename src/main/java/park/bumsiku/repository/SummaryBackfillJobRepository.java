@@ -0,0 +1,13 @@
+package park.bumsiku.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import park.bumsiku.domain.entity.SummaryBackfillJob;
+
+import java.util.Optional;
+
+@Repository
+public interface SummaryBackfillJobRepository extends JpaRepository<SummaryBackfillJob, Long> {
+
+    Optional<SummaryBackfillJob> findFirstByOrderByIdDesc();
+}
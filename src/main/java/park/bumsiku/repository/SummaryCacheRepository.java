@@ -0,0 +1,9 @@
+package park.bumsiku.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import park.bumsiku.domain.entity.SummaryCache;
+
+@Repository
+public interface SummaryCacheRepository extends JpaRepository<SummaryCache, String> {
+}
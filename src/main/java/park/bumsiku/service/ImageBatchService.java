@@ -0,0 +1,108 @@
+package park.bumsiku.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import park.bumsiku.domain.dto.response.ImageBatchItemResponse;
+import park.bumsiku.domain.dto.response.ImageBatchResponse;
+import park.bumsiku.domain.dto.response.UploadImageResponse;
+import park.bumsiku.utils.concurrent.ThreadFactories;
+import park.bumsiku.utils.monitoring.LogExecutionTime;
+import park.bumsiku.utils.validation.ArgumentValidator;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 여러 이미지를 한 요청으로 업로드합니다.
+ * 파일마다 검증 후 변환/업로드를 제한된 병렬도로 동시에 수행하고, 입력 순서대로 파일별 결과를 반환합니다.
+ * 한 파일이 실패해도 나머지 파일은 계속 처리합니다.
+ * 디코딩/인코딩 자체는 {@link park.bumsiku.utils.image.ImageProcessingExecutor} 에서 수행되며,
+ * 이 풀은 파일 단위 작업을 조율하는 스레드만 제공합니다.
+ */
+@Slf4j
+@Service
+public class ImageBatchService {
+
+    private final PrivateService privateService;
+    private final ArgumentValidator validator;
+    private final ThreadPoolExecutor executor;
+    private final int maxFiles;
+
+    public ImageBatchService(
+            PrivateService privateService,
+            ArgumentValidator validator,
+            @Value("${image.batch.parallelism:4}") int parallelism,
+            @Value("${image.batch.max-files:30}") int maxFiles,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.privateService = privateService;
+        this.validator = validator;
+        this.maxFiles = maxFiles;
+        // 풀이 가득 차면 요청 스레드에서 직접 처리해 전체 동시 업로드 수를 제한
+        this.executor = new ThreadPoolExecutor(
+                parallelism, parallelism,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(parallelism),
+                ThreadFactories.named("image-batch-", virtualThreads),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @LogExecutionTime
+    public ImageBatchResponse upload(List<MultipartFile> images) {
+        if (images == null || images.isEmpty()) {
+            throw new IllegalArgumentException("이미지 파일을 업로드해주세요");
+        }
+        if (images.size() > maxFiles) {
+            throw new IllegalArgumentException("한 번에 업로드할 수 있는 이미지는 " + maxFiles + "개 이하입니다");
+        }
+
+        List<CompletableFuture<ImageBatchItemResponse>> futures = IntStream.range(0, images.size())
+                .mapToObj(index -> CompletableFuture.supplyAsync(() -> uploadOne(index, images.get(index)), executor))
+                .toList();
+        List<ImageBatchItemResponse> results = futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+
+        int succeeded = (int) results.stream().filter(ImageBatchItemResponse::isSuccess).count();
+        log.info("Batch image upload finished: {} succeeded, {} failed", succeeded, results.size() - succeeded);
+
+        return ImageBatchResponse.builder()
+                .results(results)
+                .succeeded(succeeded)
+                .failed(results.size() - succeeded)
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private ImageBatchItemResponse uploadOne(int index, MultipartFile image) {
+        String filename = image == null ? null : image.getOriginalFilename();
+        try {
+            validator.validateImage(image);
+            UploadImageResponse uploaded = privateService.uploadImage(image);
+            return ImageBatchItemResponse.builder()
+                    .index(index)
+                    .filename(filename)
+                    .success(true)
+                    .image(uploaded)
+                    .build();
+        } catch (RuntimeException e) {
+            log.warn("Batch image upload failed for file #{} ({}): {}", index, filename, e.getMessage());
+            return ImageBatchItemResponse.builder()
+                    .index(index)
+                    .filename(filename)
+                    .success(false)
+                    .error(e.getMessage())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package park.bumsiku.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import park.bumsiku.domain.dto.response.ImageGcResponse;
+import park.bumsiku.domain.entity.StoredImage;
+import park.bumsiku.domain.event.ImagesDeletedEvent;
+import park.bumsiku.repository.ImageRepository;
+import park.bumsiku.repository.PostRepository;
+import park.bumsiku.repository.StoredImageRepository;
+import park.bumsiku.utils.datasource.ReplicaRoutingDataSource;
+import park.bumsiku.utils.exceptions.TooManyRequestsException;
+import park.bumsiku.utils.monitoring.LogExecutionTime;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 어떤 게시물에서도 참조하지 않는 이미지를 저장소와 stored_images 에서 정리합니다.
+ * <p>
+ * 업로드 키는 {@code <uuid>.webp}, {@code <uuid>-<w>w.webp} 형태이므로 게시물 본문에서 UUID 만 모아
+ * 참조 여부를 판단합니다. 본문은 S3 URL, /images, /img 프록시 중 어느 경로로 이미지를 걸어도 UUID 는 같습니다.
+ * 같은 원본(sourceHash)의 변형은 srcset 으로 함께 쓰이므로 원본 단위로 살리거나 지우며,
+ * 유예 기간 안에 만들어졌거나 중복 업로드로 다시 쓰인 원본은 아직 게시물에 붙지 않았을 수 있어 건드리지 않습니다.
+ */
+@Slf4j
+@Service
+public class ImageGcService {
+
+    private static final Pattern UUID_PATTERN =
+            Pattern.compile("[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+    private static final int UUID_LENGTH = 36;
+
+    private final PostRepository postRepository;
+    private final StoredImageRepository storedImageRepository;
+    private final ImageRepository imageRepository;
+    private final Clock clock;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long gracePeriodDays;
+    private final int batchSize;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public ImageGcService(
+            PostRepository postRepository,
+            StoredImageRepository storedImageRepository,
+            ImageRepository imageRepository,
+            Clock clock,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${image.gc.grace-period-days:7}") long gracePeriodDays,
+            @Value("${image.gc.batch-size:500}") int batchSize) {
+        this.postRepository = postRepository;
+        this.storedImageRepository = storedImageRepository;
+        this.imageRepository = imageRepository;
+        this.clock = clock;
+        this.eventPublisher = eventPublisher;
+        this.gracePeriodDays = gracePeriodDays;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${image.gc.cron:0 30 4 * * *}")
+    public void scheduledRun() {
+        try {
+            run(false);
+        } catch (TooManyRequestsException e) {
+            log.info("Skipping scheduled image GC: {}", e.getMessage());
+        }
+    }
+
+    @LogExecutionTime
+    public ImageGcResponse run(boolean dryRun) {
+        if (!running.compareAndSet(false, true)) {
+            throw new TooManyRequestsException("이미지 정리 작업이 이미 실행 중입니다");
+        }
+        try {
+            // 복제 지연으로 오래된 last_used_at 을 읽고 다시 쓰인 이미지를 지우지 않도록 원본에서 읽음
+            return ReplicaRoutingDataSource.callOnPrimary(() -> collect(dryRun));
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private ImageGcResponse collect(boolean dryRun) {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minusDays(gracePeriodDays);
+
+        // 이미지 목록을 먼저 읽어야 스캔 도중 업로드되어 게시물에 붙은 이미지를 놓치지 않음
+        Map<String, List<StoredImage>> bySource = new LinkedHashMap<>();
+        int scannedImages = 0;
+        long lastImageId = 0L;
+        List<StoredImage> images;
+        do {
+            images = storedImageRepository.findByIdGreaterThanOrderByIdAsc(lastImageId, PageRequest.of(0, batchSize));
+            for (StoredImage image : images) {
+                bySource.computeIfAbsent(image.getSourceHash(), key -> new ArrayList<>()).add(image);
+                lastImageId = image.getId();
+            }
+            scannedImages += images.size();
+        } while (images.size() == batchSize);
+
+        Set<String> referenced = new HashSet<>();
+        int scannedPosts = 0;
+        int lastPostId = 0;
+        List<Object[]> posts;
+        do {
+            posts = postRepository.findContentsAfter(lastPostId, batchSize);
+            for (Object[] post : posts) {
+                lastPostId = (Integer) post[0];
+                collectUuids((String) post[1], referenced);
+            }
+            scannedPosts += posts.size();
+        } while (posts.size() == batchSize);
+
+        List<StoredImage> orphans = new ArrayList<>();
+        Set<String> liveKeys = new HashSet<>();
+        for (List<StoredImage> group : bySource.values()) {
+            if (isCollectable(group, referenced, cutoff)) {
+                orphans.addAll(group);
+            } else {
+                group.forEach(image -> liveKeys.add(image.getStorageKey()));
+            }
+        }
+        orphans = excludeReusedSince(orphans, cutoff, liveKeys);
+
+        // 내용 중복 제거로 다른 원본과 객체를 공유하는 경우 객체는 남기고 행만 지움
+        Map<String, Long> orphanKeys = new HashMap<>();
+        for (StoredImage image : orphans) {
+            if (!liveKeys.contains(image.getStorageKey())) {
+                orphanKeys.putIfAbsent(image.getStorageKey(), image.getSize());
+            }
+        }
+
+        Set<String> failedKeys = Set.of();
+        if (!dryRun && !orphans.isEmpty()) {
+            // 객체를 먼저 지워야 행 삭제가 실패해도 다음 실행에서 다시 정리됨.
+            // 지우지 못한 객체의 행은 남겨 다음 실행에서 다시 시도
+            failedKeys = orphanKeys.isEmpty() ? Set.of() : imageRepository.deleteAll(orphanKeys.keySet());
+            Set<String> failed = failedKeys;
+            orphans = orphans.stream()
+                    .filter(image -> !failed.contains(image.getStorageKey()))
+                    .toList();
+            for (int from = 0; from < orphans.size(); from += batchSize) {
+                storedImageRepository.deleteAllInBatch(orphans.subList(from, Math.min(from + batchSize, orphans.size())));
+            }
+            failedKeys.forEach(orphanKeys::remove);
+            if (!orphanKeys.isEmpty()) {
+                // 이미지 프록시가 지워진 객체의 캐시 사본을 계속 내보내지 않도록 알림
+                eventPublisher.publishEvent(new ImagesDeletedEvent(Set.copyOf(orphanKeys.keySet())));
+            }
+        }
+        long reclaimedBytes = orphanKeys.values().stream().mapToLong(Long::longValue).sum();
+
+        log.info("Image GC {}: scanned {} posts and {} images, {} orphan rows, {} objects, {} bytes reclaimable, {} objects failed",
+                dryRun ? "dry run" : "completed", scannedPosts, scannedImages,
+                orphans.size(), orphanKeys.size(), reclaimedBytes, failedKeys.size());
+
+        return ImageGcResponse.builder()
+                .dryRun(dryRun)
+                .scannedPosts(scannedPosts)
+                .scannedImages(scannedImages)
+                .deletedImages(orphans.size())
+                .deletedObjects(orphanKeys.size())
+                .failedObjects(failedKeys.size())
+                .reclaimedBytes(reclaimedBytes)
+                .build();
+    }
+
+    /**
+     * 스캔한 뒤 중복 업로드로 다시 쓰인 원본을 대상에서 빼고, 그 원본의 객체는 살아 있는 것으로 둡니다.
+     */
+    private List<StoredImage> excludeReusedSince(List<StoredImage> orphans, LocalDateTime cutoff, Set<String> liveKeys) {
+        if (orphans.isEmpty()) {
+            return orphans;
+        }
+        Set<String> reusedSources = new HashSet<>();
+        for (StoredImage current : storedImageRepository.findAllById(orphans.stream().map(StoredImage::getId).toList())) {
+            if (current.lastUsed().isAfter(cutoff)) {
+                reusedSources.add(current.getSourceHash());
+            }
+        }
+        if (reusedSources.isEmpty()) {
+            return orphans;
+        }
+        List<StoredImage> remaining = new ArrayList<>();
+        for (StoredImage image : orphans) {
+            if (reusedSources.contains(image.getSourceHash())) {
+                liveKeys.add(image.getStorageKey());
+            } else {
+                remaining.add(image);
+            }
+        }
+        return remaining;
+    }
+
+    private boolean isCollectable(List<StoredImage> group, Set<String> referenced, LocalDateTime cutoff) {
+        for (StoredImage image : group) {
+            String baseName = baseName(image.getStorageKey());
+            // 형식을 알 수 없는 키는 참조 여부를 판단할 수 없으므로 보존
+            if (baseName == null || referenced.contains(baseName) || image.lastUsed().isAfter(cutoff)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void collectUuids(String content, Set<String> referenced) {
+        if (content == null) {
+            return;
+        }
+        Matcher matcher = UUID_PATTERN.matcher(content);
+        while (matcher.find()) {
+            referenced.add(matcher.group().toLowerCase());
+        }
+    }
+
+    private static String baseName(String storageKey) {
+        if (storageKey == null || storageKey.length() < UUID_LENGTH) {
+            return null;
+        }
+        String prefix = storageKey.substring(0, UUID_LENGTH);
+        return UUID_PATTERN.matcher(prefix).matches() ? prefix.toLowerCase() : null;
+    }
+}
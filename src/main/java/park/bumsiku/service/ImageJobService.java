@@ -0,0 +1,187 @@
+package park.bumsiku.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import park.bumsiku.domain.dto.response.ImageJobResponse;
+import park.bumsiku.domain.dto.response.UploadImageResponse;
+import park.bumsiku.utils.concurrent.ThreadFactories;
+import park.bumsiku.utils.exceptions.TooManyRequestsException;
+import park.bumsiku.utils.monitoring.LogExecutionTime;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이미지 업로드를 비동기 작업으로 처리합니다.
+ * 요청 스레드는 원본을 임시 파일로 옮긴 뒤 작업 ID만 반환하고,
+ * 고정 크기 워커 풀이 변환/업로드를 수행합니다. 대기열이 가득 차면 429로 거절합니다.
+ */
+@Slf4j
+@Service
+public class ImageJobService {
+
+    private static final Duration JOB_RETENTION = Duration.ofHours(1);
+
+    private final PrivateService privateService;
+    private final Clock clock;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, ImageJob> jobs = new ConcurrentHashMap<>();
+
+    public ImageJobService(
+            PrivateService privateService,
+            Clock clock,
+            @Value("${image.job.pool-size:2}") int poolSize,
+            @Value("${image.job.queue-capacity:20}") int queueCapacity,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.privateService = privateService;
+        this.clock = clock;
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                ThreadFactories.named("image-job-", virtualThreads),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @LogExecutionTime
+    public ImageJobResponse submit(MultipartFile image) {
+        evictExpiredJobs();
+        // 대기열이 이미 가득 찼다면 원본을 디스크에 옮기기 전에 거절
+        if (isSaturated()) {
+            throw saturated(image.getOriginalFilename());
+        }
+
+        Path staged = stage(image);
+        ImageJob job = new ImageJob(UUID.randomUUID().toString(), image.getOriginalFilename(), LocalDateTime.now(clock));
+        jobs.put(job.id, job);
+
+        try {
+            executor.execute(() -> process(job, staged));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            deleteQuietly(staged);
+            throw saturated(image.getOriginalFilename());
+        }
+
+        log.info("Image job {} queued for file: {}", job.id, job.filename);
+        return job.toResponse();
+    }
+
+    public ImageJobResponse getJob(String jobId) {
+        ImageJob job = jobs.get(jobId);
+        if (job == null) {
+            log.warn("Image job not found with id: {}", jobId);
+            throw new NoSuchElementException("Image job not found with id: " + jobId);
+        }
+        return job.toResponse();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void process(ImageJob job, Path staged) {
+        job.status = Status.PROCESSING;
+        try {
+            UploadImageResponse result = privateService.uploadImage(new FileSystemResource(staged), job.filename);
+            job.url = result.getUrl();
+            job.size = result.getSize();
+            job.finish(Status.COMPLETED, LocalDateTime.now(clock));
+        } catch (Exception e) {
+            log.error("Image job {} failed for file: {}", job.id, job.filename, e);
+            job.error = e.getMessage();
+            job.finish(Status.FAILED, LocalDateTime.now(clock));
+        } finally {
+            deleteQuietly(staged);
+        }
+    }
+
+    private boolean isSaturated() {
+        return executor.getQueue().remainingCapacity() == 0
+                && executor.getActiveCount() >= executor.getMaximumPoolSize();
+    }
+
+    private TooManyRequestsException saturated(String filename) {
+        log.warn("Image job queue saturated - rejecting file: {}", filename);
+        return new TooManyRequestsException("이미지 처리 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요");
+    }
+
+    private Path stage(MultipartFile image) {
+        try {
+            Path staged = Files.createTempFile("image-job-", ".upload");
+            image.transferTo(staged);
+            return staged;
+        } catch (IOException e) {
+            log.error("Image staging failed for file: {}", image.getOriginalFilename(), e);
+            throw new RuntimeException("이미지 임시 저장 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete staged image: {}", path, e);
+        }
+    }
+
+    private void evictExpiredJobs() {
+        LocalDateTime threshold = LocalDateTime.now(clock).minus(JOB_RETENTION);
+        jobs.values().removeIf(job -> job.completedAt != null && job.completedAt.isBefore(threshold));
+    }
+
+    private enum Status {
+        PENDING, PROCESSING, COMPLETED, FAILED
+    }
+
+    private static final class ImageJob {
+        private final String id;
+        private final String filename;
+        private final LocalDateTime createdAt;
+        private volatile Status status = Status.PENDING;
+        private volatile String url;
+        private volatile Long size;
+        private volatile String error;
+        private volatile LocalDateTime completedAt;
+
+        private ImageJob(String id, String filename, LocalDateTime createdAt) {
+            this.id = id;
+            this.filename = filename;
+            this.createdAt = createdAt;
+        }
+
+        private void finish(Status result, LocalDateTime at) {
+            this.completedAt = at;
+            this.status = result;
+        }
+
+        private ImageJobResponse toResponse() {
+            return ImageJobResponse.builder()
+                    .jobId(id)
+                    .status(status.name())
+                    .url(url)
+                    .size(size)
+                    .error(error)
+                    .createdAt(createdAt.toString())
+                    .completedAt(completedAt == null ? null : completedAt.toString())
+                    .build();
+        }
+    }
+}
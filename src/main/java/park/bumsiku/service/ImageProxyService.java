@@ -0,0 +1,526 @@
+package park.bumsiku.service;
+
+import com.sksamuel.scrimage.ImmutableImage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+import park.bumsiku.domain.event.ImagesDeletedEvent;
+import park.bumsiku.repository.ImageRepository;
+import park.bumsiku.utils.image.ImageDecoder;
+import park.bumsiku.utils.image.ImageFormat;
+import park.bumsiku.utils.image.ImageProcessingExecutor;
+import park.bumsiku.utils.image.ImageVariantEncoder;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 이미지 저장소 앞단의 read-through 캐시입니다.
+ * 저장소에서 한 번 받아온 이미지를 용량 제한이 있는 디스크 LRU 에 보관하고,
+ * 작은 이미지는 메모리 LRU 에도 올려둡니다. 같은 키의 동시 미스는 한 번의 조회로 합칩니다.
+ * Accept 헤더로 협상한 변환본(JPEG, 고압축 WebP, 너비 축소)도 같은 캐시에 보관합니다.
+ * 이미지 키는 업로드마다 새로 만들어지므로 내용이 바뀌어 무효화할 일은 없고,
+ * 이미지 GC 가 저장소에서 지운 키만 {@link ImagesDeletedEvent} 로 받아 원본과 변환본을 함께 비웁니다.
+ * <p>
+ * 디스크 파일은 읽는 스트림이 열려 있는 동안 삭제를 미뤄, 응답을 보내는 도중 LRU 제거로 본문이 잘리지 않게 합니다.
+ * 응답을 열기 전에 제거된 경우에는 같은 키로 다시 채워 읽습니다(키가 같으면 내용도 같음).
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "image.proxy.enabled", havingValue = "true")
+public class ImageProxyService {
+
+    private static final Pattern KEY_PATTERN = Pattern.compile("[A-Za-z0-9_-][A-Za-z0-9._-]{0,199}");
+    private static final String TEMP_PREFIX = ".fetch-";
+
+    private final ImageRepository imageRepository;
+    private final ImageDecoder imageDecoder;
+    private final ImageVariantEncoder imageVariantEncoder;
+    private final ImageProcessingExecutor imageProcessingExecutor;
+    private final MeterRegistry meterRegistry;
+    private final Path cacheDir;
+    private final long memoryBudget;
+    private final long memoryEntryLimit;
+    private final long diskBudget;
+
+    private final LinkedHashMap<String, byte[]> memory = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<String, Long> disk = new LinkedHashMap<>(16, 0.75f, true);
+    // disk 로 동기화: 키별로 열려 있는 스트림 수, 스트림이 닫히면 지울 파일
+    private final Map<String, Integer> readers = new HashMap<>();
+    private final Set<String> pendingDeletes = new HashSet<>();
+    private final Map<String, CompletableFuture<Resource>> inFlight = new ConcurrentHashMap<>();
+    private long memoryBytes;
+    private long diskBytes;
+
+    private final Counter memoryHits;
+    private final Counter diskHits;
+    private final Counter misses;
+
+    public ImageProxyService(
+            ImageRepository imageRepository,
+            ImageDecoder imageDecoder,
+            ImageVariantEncoder imageVariantEncoder,
+            ImageProcessingExecutor imageProcessingExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${image.proxy.cache.dir:${java.io.tmpdir}/image-cache}") String cacheDir,
+            @Value("${image.proxy.cache.memory-bytes:67108864}") long memoryBudget,
+            @Value("${image.proxy.cache.disk-bytes:1073741824}") long diskBudget) {
+        this.imageRepository = imageRepository;
+        this.imageDecoder = imageDecoder;
+        this.imageVariantEncoder = imageVariantEncoder;
+        this.imageProcessingExecutor = imageProcessingExecutor;
+        this.meterRegistry = meterRegistry;
+        this.cacheDir = Path.of(cacheDir).toAbsolutePath().normalize();
+        this.memoryBudget = memoryBudget;
+        this.memoryEntryLimit = memoryBudget / 16;
+        this.diskBudget = diskBudget;
+
+        this.memoryHits = counter(meterRegistry, "memory");
+        this.diskHits = counter(meterRegistry, "disk");
+        this.misses = counter(meterRegistry, "miss");
+
+        restoreDiskIndex();
+    }
+
+    public Resource get(String key) {
+        validateKey(key);
+        return cached(key, temp -> {
+            try (InputStream in = imageRepository.load(key)) {
+                Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+        });
+    }
+
+    /**
+     * 협상된 형식/너비의 변환본을 반환합니다. 변환본은 (이미지, 형식, 너비) 별로 한 번만 만들어 캐시합니다.
+     */
+    public Resource get(String key, ImageFormat format, Integer width) {
+        String variantKey = variantKey(key, format, width);
+        if (variantKey.equals(key)) {
+            return get(key);
+        }
+
+        Integer targetWidth = imageVariantEncoder.snapWidth(width);
+        Resource variant = cached(variantKey, temp -> transcode(key, format, targetWidth, temp));
+        recordBytesSaved(key, format, variant);
+        return variant;
+    }
+
+    /**
+     * 응답 캐시 키(ETag)로 쓰이는 변환본 키. 원본을 그대로 주는 경우 이미지 키와 같습니다.
+     */
+    public String variantKey(String key, ImageFormat format, Integer width) {
+        validateKey(key);
+        Integer targetWidth = imageVariantEncoder.snapWidth(width);
+        if (format == ImageFormat.WEBP && targetWidth == null) {
+            return key;
+        }
+        return format.variantKey(key, targetWidth);
+    }
+
+    private Resource cached(String cacheKey, CacheFiller filler) {
+        byte[] bytes = fromMemory(cacheKey);
+        if (bytes != null) {
+            memoryHits.increment();
+            return new ByteArrayResource(bytes);
+        }
+
+        Long size = fromDisk(cacheKey);
+        if (size != null) {
+            Resource resource = promote(cacheKey, size, filler);
+            if (resource != null) {
+                diskHits.increment();
+                return resource;
+            }
+        }
+
+        return fillOnce(cacheKey, filler);
+    }
+
+    private Resource fillOnce(String cacheKey, CacheFiller filler) {
+        CompletableFuture<Resource> mine = new CompletableFuture<>();
+        CompletableFuture<Resource> running = inFlight.putIfAbsent(cacheKey, mine);
+        if (running != null) {
+            // 같은 키를 이미 채우는 중이면 그 결과를 함께 사용
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        try {
+            misses.increment();
+            Resource resource = fill(cacheKey, filler);
+            mine.complete(resource);
+            return resource;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(cacheKey, mine);
+        }
+    }
+
+    private Resource fill(String cacheKey, CacheFiller filler) {
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(cacheDir, TEMP_PREFIX, ".tmp");
+            filler.fill(temp);
+            long size = Files.size(temp);
+            synchronized (disk) {
+                // 이전 파일을 읽는 스트림은 옮기기 전 파일을 계속 읽으므로, 미뤄둔 삭제가 새 파일을 지우지 않게 취소
+                pendingDeletes.remove(cacheKey);
+                move(temp, cacheDir.resolve(cacheKey));
+                addToDisk(cacheKey, size);
+            }
+            log.info("Image cached: key={}, size={}", cacheKey, size);
+
+            Resource resource = promote(cacheKey, size, filler);
+            return resource != null ? resource : new DiskCachedResource(cacheKey, size, filler);
+        } catch (IOException e) {
+            throw new UncheckedIOException("이미지 캐시 저장 실패: " + cacheKey, e);
+        } finally {
+            if (temp != null) {
+                deleteQuietly(temp);
+            }
+        }
+    }
+
+    private void transcode(String key, ImageFormat format, Integer width, Path temp) throws IOException {
+        Resource original = get(key);
+        try {
+            // 변환은 CPU 를 쓰므로 업로드와 같은 이미지 전용 실행기에서 수행
+            imageProcessingExecutor.submit(() -> {
+                long startedAt = System.nanoTime();
+                try (OutputStream out = Files.newOutputStream(temp)) {
+                    ImmutableImage image = imageDecoder.decode(original);
+                    if (width != null && width < image.width) {
+                        image = image.scaleToWidth(width);
+                    }
+                    format.write(image, out);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                imageProcessingExecutor.recordEncode(System.nanoTime() - startedAt, temp.toFile().length());
+                return null;
+            }).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private void recordBytesSaved(String key, ImageFormat format, Resource variant) {
+        try {
+            Long originalSize;
+            synchronized (disk) {
+                originalSize = disk.get(key);
+            }
+            long original = originalSize != null ? originalSize : get(key).contentLength();
+            DistributionSummary.builder("image.proxy.bytes.saved")
+                    .description("Bytes saved per request by serving a negotiated variant instead of the original")
+                    .baseUnit("bytes")
+                    .tag("format", format.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry)
+                    .record(Math.max(0, original - variant.contentLength()));
+        } catch (IOException | RuntimeException e) {
+            log.debug("Failed to record bytes saved for key: {}", key, e);
+        }
+    }
+
+    /**
+     * 큰 파일은 스트림을 열 때 읽는 자원으로, 작은 파일은 메모리에 올려 반환합니다. 그 사이 제거되었으면 null 입니다.
+     */
+    private Resource promote(String key, long size, CacheFiller filler) {
+        if (size > memoryEntryLimit) {
+            return new DiskCachedResource(key, size, filler);
+        }
+        try (InputStream in = openFromDisk(key)) {
+            if (in == null) {
+                return null;
+            }
+            byte[] bytes = in.readAllBytes();
+            addToMemory(key, bytes);
+            return new ByteArrayResource(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 디스크 캐시 파일을 열고, 스트림이 닫힐 때까지 삭제를 미룹니다. 이미 제거되었으면 null 입니다.
+     */
+    private InputStream openFromDisk(String key) throws IOException {
+        InputStream in;
+        synchronized (disk) {
+            if (!disk.containsKey(key)) {
+                return null;
+            }
+            try {
+                in = Files.newInputStream(cacheDir.resolve(key));
+            } catch (NoSuchFileException e) {
+                // 디렉터리에서 파일이 사라진 경우 인덱스도 비워 다음 조회에서 다시 채움
+                removeFromDisk(key);
+                return null;
+            }
+            readers.merge(key, 1, Integer::sum);
+        }
+        return new FilterInputStream(in) {
+            private boolean closed;
+
+            @Override
+            public void close() throws IOException {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                try {
+                    super.close();
+                } finally {
+                    releaseReader(key);
+                }
+            }
+        };
+    }
+
+    private void releaseReader(String key) {
+        synchronized (disk) {
+            if (readers.merge(key, -1, Integer::sum) > 0) {
+                return;
+            }
+            readers.remove(key);
+            if (pendingDeletes.remove(key)) {
+                deleteQuietly(cacheDir.resolve(key));
+            }
+        }
+    }
+
+    /**
+     * GC 가 저장소에서 지운 이미지의 원본과 변환본({@code <key>.*})을 캐시에서 비웁니다.
+     */
+    @EventListener
+    public void onImagesDeleted(ImagesDeletedEvent event) {
+        evict(event.storageKeys());
+    }
+
+    public void evict(Collection<String> keys) {
+        Predicate<String> matches = cacheKey -> keys.stream()
+                .anyMatch(key -> cacheKey.equals(key) || cacheKey.startsWith(key + "."));
+        synchronized (memory) {
+            Iterator<Map.Entry<String, byte[]>> entries = memory.entrySet().iterator();
+            while (entries.hasNext()) {
+                Map.Entry<String, byte[]> entry = entries.next();
+                if (matches.test(entry.getKey())) {
+                    memoryBytes -= entry.getValue().length;
+                    entries.remove();
+                }
+            }
+        }
+        synchronized (disk) {
+            List<String> cached = disk.keySet().stream().filter(matches).toList();
+            cached.forEach(this::removeFromDisk);
+            if (!cached.isEmpty()) {
+                log.info("Evicted {} cached images for {} deleted keys", cached.size(), keys.size());
+            }
+        }
+    }
+
+    private byte[] fromMemory(String key) {
+        synchronized (memory) {
+            return memory.get(key);
+        }
+    }
+
+    private Long fromDisk(String key) {
+        synchronized (disk) {
+            return disk.get(key);
+        }
+    }
+
+    private void addToMemory(String key, byte[] bytes) {
+        synchronized (memory) {
+            byte[] previous = memory.put(key, bytes);
+            memoryBytes += bytes.length - (previous == null ? 0 : previous.length);
+            Iterator<Map.Entry<String, byte[]>> eldest = memory.entrySet().iterator();
+            while (memoryBytes > memoryBudget && eldest.hasNext()) {
+                Map.Entry<String, byte[]> entry = eldest.next();
+                if (!entry.getKey().equals(key)) {
+                    memoryBytes -= entry.getValue().length;
+                    eldest.remove();
+                }
+            }
+        }
+    }
+
+    private void addToDisk(String key, long size) {
+        synchronized (disk) {
+            Long previous = disk.put(key, size);
+            diskBytes += size - (previous == null ? 0 : previous);
+            long excess = diskBytes - diskBudget;
+            List<String> evicted = new ArrayList<>();
+            for (Map.Entry<String, Long> entry : disk.entrySet()) {
+                if (excess <= 0) {
+                    break;
+                }
+                if (!entry.getKey().equals(key)) {
+                    evicted.add(entry.getKey());
+                    excess -= entry.getValue();
+                }
+            }
+            evicted.forEach(this::removeFromDisk);
+        }
+    }
+
+    /**
+     * 인덱스에서 빼고 파일을 지웁니다. 읽는 스트림이 있으면 마지막 스트림이 닫힐 때 지웁니다. disk 로 동기화된 상태에서 호출합니다.
+     */
+    private void removeFromDisk(String key) {
+        Long size = disk.remove(key);
+        if (size == null) {
+            return;
+        }
+        diskBytes -= size;
+        if (readers.containsKey(key)) {
+            pendingDeletes.add(key);
+        } else {
+            deleteQuietly(cacheDir.resolve(key));
+        }
+    }
+
+    private void restoreDiskIndex() {
+        try {
+            Files.createDirectories(cacheDir);
+            List<Path> files;
+            try (Stream<Path> listing = Files.list(cacheDir)) {
+                files = listing.filter(Files::isRegularFile).toList();
+            }
+            files.stream()
+                    .filter(file -> file.getFileName().toString().startsWith(TEMP_PREFIX))
+                    .forEach(this::deleteQuietly);
+            files.stream()
+                    .filter(file -> KEY_PATTERN.matcher(file.getFileName().toString()).matches())
+                    .sorted(Comparator.comparing(this::lastModified))
+                    .forEach(file -> addToDisk(file.getFileName().toString(), file.toFile().length()));
+            log.info("Image cache ready at {} with {} entries ({} bytes)", cacheDir, disk.size(), diskBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("이미지 캐시 디렉터리 초기화 실패: " + cacheDir, e);
+        }
+    }
+
+    private void validateKey(String key) {
+        if (key == null || !KEY_PATTERN.matcher(key).matches()) {
+            throw new IllegalArgumentException("유효하지 않은 이미지 키입니다: " + key);
+        }
+    }
+
+    private void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private long lastModified(Path path) {
+        return path.toFile().lastModified();
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete cached image file: {}", path, e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface CacheFiller {
+        void fill(Path temp) throws IOException;
+    }
+
+    /**
+     * 디스크 캐시 파일을 가리키는 응답 자원. 스트림을 열 때마다 삭제를 미루는 읽기 권한을 잡고,
+     * 그 전에 캐시에서 제거되었으면 같은 키로 다시 채워 읽습니다.
+     */
+    private final class DiskCachedResource extends AbstractResource {
+
+        private final String cacheKey;
+        private final long size;
+        private final CacheFiller filler;
+
+        private DiskCachedResource(String cacheKey, long size, CacheFiller filler) {
+            this.cacheKey = cacheKey;
+            this.size = size;
+            this.filler = filler;
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            InputStream in = openFromDisk(cacheKey);
+            return in != null ? in : cached(cacheKey, filler).getInputStream();
+        }
+
+        @Override
+        public boolean exists() {
+            return true;
+        }
+
+        @Override
+        public long contentLength() {
+            return size;
+        }
+
+        @Override
+        public String getFilename() {
+            return cacheKey;
+        }
+
+        @Override
+        public String getDescription() {
+            return "cached image [" + cacheKey + "]";
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("image.proxy.requests")
+                .description("Image proxy requests by cache result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
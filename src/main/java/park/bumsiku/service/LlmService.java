@@ -1,37 +1,360 @@
 package park.bumsiku.service;
 
-import jakarta.transaction.Transactional;
-import lombok.AllArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.messages.SystemMessage;
 import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.ai.chat.prompt.ChatOptions;
 import org.springframework.ai.chat.prompt.PromptTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import park.bumsiku.domain.entity.SummaryCache;
+import park.bumsiku.domain.event.PostChangedEvent;
 import park.bumsiku.repository.PostRepository;
+import park.bumsiku.repository.SummaryCacheRepository;
+import park.bumsiku.utils.concurrent.ThreadFactories;
+import park.bumsiku.utils.exceptions.TooManyRequestsException;
+import park.bumsiku.utils.llm.LlmCallGuard;
+import park.bumsiku.utils.llm.LlmUsageRecorder;
+import park.bumsiku.utils.llm.MarkdownChunker;
 import park.bumsiku.utils.monitoring.LogExecutionTime;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+/**
+ * 게시물 요약을 생성합니다.
+ * 결과는 (모델 옵션, 프롬프트, 원문) 해시로 summary_cache 에 저장해 같은 초안은 모델을 다시 호출하지 않고,
+ * 같은 원문에 대한 동시 요청은 하나의 호출로 합칩니다.
+ * <p>
+ * 모델 호출은 수 초가 걸리므로 트랜잭션 없이 실행해 그동안 DB 커넥션을 잡지 않습니다.
+ * few-shot 예시(최근 요약)는 메모리에 두고 게시물이 바뀔 때만 다시 읽습니다.
+ * <p>
+ * 추정 토큰 수가 한도를 넘는 긴 글은 Markdown 섹션 단위 조각으로 나눠 제한된 병렬도로 부분 요약(map)한 뒤,
+ * 부분 요약들을 원래 요약 프롬프트에 넣어 최종 요약(reduce)합니다. 긴 글 요청은 조각 대기열에 자리가 있을 때 받아들이고,
+ * 받아들인 뒤의 조각/최종 호출은 bulkhead 허가를 잠시 기다리므로 조각 하나가 거절돼 요약 전체가 429 로 끝나지 않습니다.
+ * <p>
+ * 모든 모델 호출은 {@link LlmCallGuard} 를 거쳐 동시 호출 수와 마감 시간이 제한되고,
+ * 토큰 사용량과 지연은 {@link LlmUsageRecorder} 에 모델별로 기록됩니다.
+ */
+@Slf4j
 @Service
-@AllArgsConstructor
 public class LlmService {
 
+    private static final int EXAMPLE_COUNT = 5;
+
     private final ChatClient chatClient;
     private final PostRepository postRepository;
+    private final SummaryCacheRepository summaryCacheRepository;
+    private final ChatOptions chatOptions;
+    private final MarkdownChunker markdownChunker;
+    private final LlmCallGuard llmCallGuard;
+    private final LlmUsageRecorder llmUsageRecorder;
+    private final ThreadPoolExecutor chunkExecutor;
+    private final long chunkMaxWaitMillis;
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private volatile List<String> recentSummaries;
+
+    private final Counter hits;
+    private final Counter coalesced;
+    private final Counter misses;
+    private final Timer singleShotLatency;
+    private final Timer chunkedLatency;
+
+    public LlmService(
+            ChatClient chatClient,
+            PostRepository postRepository,
+            SummaryCacheRepository summaryCacheRepository,
+            ChatOptions chatOptions,
+            MarkdownChunker markdownChunker,
+            LlmCallGuard llmCallGuard,
+            LlmUsageRecorder llmUsageRecorder,
+            MeterRegistry meterRegistry,
+            @Value("${llm.summary.chunk-parallelism:4}") int chunkParallelism,
+            @Value("${llm.summary.chunk-queue-capacity:32}") int chunkQueueCapacity,
+            @Value("${llm.summary.chunk-max-wait-millis:10000}") long chunkMaxWaitMillis,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.chatClient = chatClient;
+        this.postRepository = postRepository;
+        this.summaryCacheRepository = summaryCacheRepository;
+        this.chatOptions = chatOptions;
+        this.markdownChunker = markdownChunker;
+        this.llmCallGuard = llmCallGuard;
+        this.llmUsageRecorder = llmUsageRecorder;
+        this.chunkMaxWaitMillis = chunkMaxWaitMillis;
+        // 모든 요청의 조각 호출이 이 풀을 공유하므로 동시에 나가는 조각 호출 수가 병렬도로 제한됨
+        this.chunkExecutor = new ThreadPoolExecutor(
+                chunkParallelism, chunkParallelism,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(chunkQueueCapacity),
+                ThreadFactories.named("llm-chunk-", virtualThreads));
+
+        this.hits = counter(meterRegistry, "hit");
+        this.coalesced = counter(meterRegistry, "coalesced");
+        this.misses = counter(meterRegistry, "miss");
+        Gauge.builder("llm.summary.cache.hit.ratio", this, LlmService::hitRatio)
+                .description("Share of summary requests served without a new model call")
+                .register(meterRegistry);
+        this.singleShotLatency = latencyTimer(meterRegistry, "single");
+        this.chunkedLatency = latencyTimer(meterRegistry, "chunked");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        chunkExecutor.shutdownNow();
+    }
 
     @LogExecutionTime
-    @Transactional
     public String generateSummary(String text) {
-        List<String> summaries = postRepository.findRecentSummaries(5);
-        String examples = getSummaryExampleString(summaries);
+        String cacheKey = cacheKey(text);
+        Optional<SummaryCache> cached = summaryCacheRepository.findById(cacheKey);
+        if (cached.isPresent()) {
+            hits.increment();
+            return cached.get().getSummary();
+        }
+
+        CompletableFuture<String> mine = new CompletableFuture<>();
+        CompletableFuture<String> running = inFlight.putIfAbsent(cacheKey, mine);
+        if (running != null) {
+            // 같은 원문을 이미 요약하는 중이면 그 결과를 함께 사용
+            coalesced.increment();
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        try {
+            misses.increment();
+            String summary = summarize(text);
+            store(cacheKey, summary);
+            mine.complete(summary);
+            return summary;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(cacheKey, mine);
+        }
+    }
+
+    /**
+     * 요약을 생성되는 대로 토큰 단위로 흘려보냅니다. 캐시에 있으면 저장된 요약을 한 번에 내보냅니다.
+     * 스트림은 요청마다 따로 구독되므로 동시 요청 합치기는 하지 않고, 완료된 결과만 캐시에 저장합니다.
+     */
+    public Flux<String> streamSummary(String text) {
+        String cacheKey = cacheKey(text);
+        Optional<SummaryCache> cached = summaryCacheRepository.findById(cacheKey);
+        if (cached.isPresent()) {
+            hits.increment();
+            return Flux.just(cached.get().getSummary());
+        }
+
+        misses.increment();
+        StringBuilder collected = new StringBuilder();
+        Flux<String> tokens;
+        if (markdownChunker.needsChunking(text)) {
+            // 부분 요약은 블로킹 호출이므로 별도 스케줄러에서 모은 뒤 최종 요약만 스트리밍
+            tokens = Mono.fromCallable(() -> reduceInput(text))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .flatMapMany(input -> llmCallGuard.stream(() -> streamContent(input), chunkMaxWaitMillis));
+        } else {
+            tokens = llmCallGuard.stream(() -> streamContent(text));
+        }
+        return tokens
+                .doOnNext(collected::append)
+                // 저장은 JPA 호출이라 응답 스트림 스레드가 아닌 별도 스케줄러에서 실행
+                .concatWith(Mono.<String>fromRunnable(() -> store(cacheKey, collected.toString()))
+                        .subscribeOn(Schedulers.boundedElastic()));
+    }
+
+    private String summarize(String text) {
+        if (!markdownChunker.needsChunking(text)) {
+            return singleShotLatency.record(() -> llmCallGuard.call(options -> complete(text, options)));
+        }
+        return chunkedLatency.record(() -> {
+            String input = reduceInput(text);
+            return llmCallGuard.call(options -> complete(input, options), chunkMaxWaitMillis);
+        });
+    }
+
+    private String complete(String text, ChatOptions options) {
+        long started = System.nanoTime();
+        return llmUsageRecorder.record(model(options), prompt(text, options).call().chatResponse(), started);
+    }
+
+    private Flux<String> streamContent(String text) {
+        return llmUsageRecorder.record(model(null), prompt(text, null).stream().chatResponse());
+    }
+
+    /**
+     * 조각별 부분 요약을 병렬로 만들어 원문 순서대로 이어 붙입니다.
+     * 조각 대기열이 가득 차면 이미 넣은 조각을 취소하고 429 로 거절합니다.
+     */
+    private String reduceInput(String text) {
+        List<String> chunks = markdownChunker.split(text);
+        log.info("Summarizing long text in {} chunks", chunks.size());
+        List<CompletableFuture<String>> partials = new ArrayList<>();
+        try {
+            for (int i = 0; i < chunks.size(); i++) {
+                int index = i;
+                partials.add(CompletableFuture.supplyAsync(
+                        () -> summarizeChunk(chunks.get(index), index + 1, chunks.size()), chunkExecutor));
+            }
+        } catch (RejectedExecutionException e) {
+            partials.forEach(partial -> partial.cancel(true));
+            log.warn("Summary chunk queue saturated - rejecting long text of {} chunks", chunks.size());
+            throw new TooManyRequestsException("요약 요청이 많습니다. 잠시 후 다시 시도해주세요");
+        }
+        try {
+            return IntStream.range(0, partials.size())
+                    .mapToObj(i -> "[" + (i + 1) + "/" + partials.size() + "] " + partials.get(i).join())
+                    .collect(Collectors.joining("\n\n"));
+        } catch (CompletionException e) {
+            partials.forEach(partial -> partial.cancel(true));
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private String summarizeChunk(String chunk, int index, int total) {
+        String msg = """
+                당신은 긴 **기술 블로그** 글의 일부를 정리하는 편집자입니다.
+                주어진 글의 일부(%d/%d)에서 핵심 개념, 결론, 중요한 코드/수치를 3~5문장으로 정리하세요.
+                정리문만 출력하고 접두사나 설명은 붙이지 마세요.
+                """.formatted(index, total);
+        return llmCallGuard.call(options -> {
+            long started = System.nanoTime();
+            return llmUsageRecorder.record(model(options), withOptions(chatClient.prompt(), options)
+                    .messages(new SystemMessage(msg), new UserMessage(chunk))
+                    .call().chatResponse(), started);
+        }, chunkMaxWaitMillis);
+    }
+
+    private ChatClient.ChatClientRequestSpec prompt(String text, ChatOptions options) {
+        String examples = getSummaryExampleString(recentSummaries());
         SystemMessage systemMessage = getSystemMessageToSummarize();
         UserMessage userMessage = getUserMessageToSummarize(examples, text);
 
-        return chatClient.prompt()
-                .messages(systemMessage, userMessage)
-                .call().content();
+        return withOptions(chatClient.prompt(), options)
+                .messages(systemMessage, userMessage);
+    }
+
+    private String model(ChatOptions options) {
+        return String.valueOf(options == null ? chatOptions.getModel() : options.getModel());
+    }
+
+    /**
+     * 헤지 요청은 대체 모델 옵션으로 기본 옵션을 덮어씁니다.
+     */
+    private static ChatClient.ChatClientRequestSpec withOptions(ChatClient.ChatClientRequestSpec spec, ChatOptions options) {
+        return options == null ? spec : spec.options(options);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        try {
+            recentSummaries = postRepository.findRecentSummaries(EXAMPLE_COUNT);
+        } catch (RuntimeException e) {
+            // 커밋된 게시물 작업을 실패로 만들지 않도록 비우기만 하고 다음 요약 요청에서 다시 읽음
+            log.warn("Failed to refresh summary examples after post {} changed", event.postId(), e);
+            recentSummaries = null;
+        }
+    }
+
+    private List<String> recentSummaries() {
+        List<String> summaries = recentSummaries;
+        if (summaries == null) {
+            summaries = postRepository.findRecentSummaries(EXAMPLE_COUNT);
+            recentSummaries = summaries;
+        }
+        return summaries;
+    }
+
+    private void store(String cacheKey, String summary) {
+        if (summary == null || summary.isBlank()) {
+            return;
+        }
+        try {
+            summaryCacheRepository.save(SummaryCache.builder()
+                    .cacheKey(cacheKey)
+                    .summary(summary)
+                    .model(String.valueOf(chatOptions.getModel()))
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 같은 키를 먼저 저장한 경우. 어느 쪽 결과든 유효함
+            log.debug("Summary cache entry already stored: {}", cacheKey);
+        }
+    }
+
+    /**
+     * 모델/온도와 시스템 프롬프트가 바뀌면 다른 결과가 나오므로 원문과 함께 키에 포함합니다.
+     */
+    private String cacheKey(String text) {
+        MessageDigest digest = sha256();
+        update(digest, String.valueOf(chatOptions.getModel()));
+        update(digest, String.valueOf(chatOptions.getTemperature()));
+        update(digest, getSystemMessageToSummarize().getText());
+        update(digest, text);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private double hitRatio() {
+        double served = hits.count() + coalesced.count();
+        double total = served + misses.count();
+        return total == 0 ? 0 : served / total;
+    }
+
+    private static Timer latencyTimer(MeterRegistry meterRegistry, String mode) {
+        return Timer.builder("llm.summary.latency")
+                .description("End-to-end summary generation latency by mode")
+                .tag("mode", mode)
+                .register(meterRegistry);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("llm.summary.cache")
+                .description("Summary requests by cache result")
+                .tag("result", result)
+                .register(meterRegistry);
     }
 
     private String getSummaryExampleString(List<String> summaries) {
@@ -0,0 +1,133 @@
+package park.bumsiku.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import park.bumsiku.domain.entity.NotificationOutbox;
+import park.bumsiku.repository.NotificationOutboxRepository;
+import park.bumsiku.utils.datasource.ReplicaRoutingDataSource;
+import park.bumsiku.utils.integration.DiscordWebhookCreator;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 트랜잭션 아웃박스로 알림을 보냅니다.
+ * <p>
+ * {@link #enqueue(String)} 는 호출한 쪽의 트랜잭션에 참여해 notification_outbox 에 행만 기록하므로,
+ * 롤백된 작업의 알림은 남지 않고 요청 처리 시간에 외부 호출이 포함되지 않습니다.
+ * 릴레이는 주기적으로 오래된 행부터 묶어 웹훅으로 보내고 성공한 행만 지우므로 재시작해도 알림이 유실되지 않습니다.
+ * 발송 실패 시 다음 주기에 다시 보내므로 같은 알림이 두 번 갈 수는 있습니다(at-least-once).
+ * 가장 오래된 미발송 알림의 대기 시간은 {@code notification.outbox.lag} 게이지로 노출합니다.
+ * 릴레이는 웹훅 429 응답에 맞춰 기다릴 수 있으므로 다른 예약 작업과 스레드를 나눠 씁니다({@code SchedulingConfig}).
+ */
+@Slf4j
+@Service
+public class NotificationOutboxService {
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final DiscordWebhookCreator discord;
+    private final Clock clock;
+    private final int batchSize;
+    private final AtomicBoolean relaying = new AtomicBoolean();
+    private final AtomicReference<LocalDateTime> oldestPending = new AtomicReference<>();
+
+    public NotificationOutboxService(
+            NotificationOutboxRepository outboxRepository,
+            DiscordWebhookCreator discord,
+            Clock clock,
+            MeterRegistry meterRegistry,
+            @Value("${notification.outbox.batch-size:50}") int batchSize) {
+        this.outboxRepository = outboxRepository;
+        this.discord = discord;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        Gauge.builder("notification.outbox.lag", this, NotificationOutboxService::lagSeconds)
+                .description("Age of the oldest undelivered notification")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Transactional
+    public void enqueue(String message) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        outboxRepository.save(NotificationOutbox.builder()
+                .message(message)
+                .createdAt(now)
+                .build());
+        // 롤백된 알림이 지연으로 잡히지 않도록 커밋된 뒤에만 게이지에 반영
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    oldestPending.compareAndSet(null, now);
+                }
+            });
+        } else {
+            oldestPending.compareAndSet(null, now);
+        }
+    }
+
+    /**
+     * 조회와 삭제가 같은 원본 DB 를 보도록 고정합니다. 복제본에서 읽으면 이미 보내고 지운 행을 복제 지연 동안 다시 보낼 수 있습니다.
+     */
+    @Scheduled(fixedDelayString = "${notification.outbox.relay-interval-millis:2000}")
+    public void relay() {
+        ReplicaRoutingDataSource.runOnPrimary(this::relayPending);
+    }
+
+    private void relayPending() {
+        if (!relaying.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<NotificationOutbox> batch;
+            do {
+                batch = outboxRepository.findAllByOrderByIdAsc(PageRequest.of(0, batchSize));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                // 발송은 트랜잭션 밖에서 하고, 성공한 묶음만 지움
+                if (!discord.deliver(batch.stream().map(NotificationOutbox::getMessage).toList())) {
+                    log.warn("Notification relay failed, {} messages remain in outbox", batch.size());
+                    break;
+                }
+                outboxRepository.deleteAllByIdInBatch(batch.stream().map(NotificationOutbox::getId).toList());
+            } while (batch.size() == batchSize);
+        } catch (RuntimeException e) {
+            log.error("Notification relay failed", e);
+        } finally {
+            refreshOldestPending();
+            relaying.set(false);
+        }
+    }
+
+    private void refreshOldestPending() {
+        try {
+            oldestPending.set(outboxRepository.findFirstByOrderByIdAsc()
+                    .map(NotificationOutbox::getCreatedAt)
+                    .orElse(null));
+        } catch (RuntimeException e) {
+            log.warn("Failed to read notification outbox lag", e);
+        }
+    }
+
+    private double lagSeconds() {
+        LocalDateTime oldest = oldestPending.get();
+        if (oldest == null) {
+            return 0;
+        }
+        return Math.max(0, Duration.between(oldest, LocalDateTime.now(clock)).toMillis() / 1000.0);
+    }
+}
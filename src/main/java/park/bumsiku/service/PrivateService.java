@@ -1,29 +1,52 @@
 package park.bumsiku.service;
 
 import com.sksamuel.scrimage.ImmutableImage;
-import com.sksamuel.scrimage.webp.WebpWriter;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import park.bumsiku.domain.dto.request.CreatePostRequest;
 import park.bumsiku.domain.dto.request.UpdatePostRequest;
+import park.bumsiku.domain.dto.response.ImageVariantResponse;
 import park.bumsiku.domain.dto.response.PostResponse;
 import park.bumsiku.domain.dto.response.UploadImageResponse;
 import park.bumsiku.domain.entity.Comment;
 import park.bumsiku.domain.entity.Post;
+import park.bumsiku.domain.entity.StoredImage;
+import park.bumsiku.domain.event.PostChangedEvent;
 import park.bumsiku.repository.CommentRepository;
 import park.bumsiku.repository.ImageRepository;
+import park.bumsiku.repository.ImageUpload;
 import park.bumsiku.repository.PostRepository;
+import park.bumsiku.repository.StoredImageRepository;
+import park.bumsiku.utils.datasource.ReplicaRoutingDataSource;
+import park.bumsiku.utils.image.HashingOutputStream;
+import park.bumsiku.utils.image.ImageDecoder;
+import park.bumsiku.utils.image.ImagePlaceholderGenerator;
+import park.bumsiku.utils.image.ImageProcessingExecutor;
+import park.bumsiku.utils.image.ImageVariantEncoder;
 import park.bumsiku.utils.monitoring.LogExecutionTime;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -35,6 +58,12 @@ public class PrivateService {
     private PostRepository postRepository;
     private ImageRepository imageRepository;
     private TagService tagService;
+    private ImageVariantEncoder imageVariantEncoder;
+    private StoredImageRepository storedImageRepository;
+    private ImageDecoder imageDecoder;
+    private ImageProcessingExecutor imageProcessingExecutor;
+    private ImagePlaceholderGenerator imagePlaceholderGenerator;
+    private ApplicationEventPublisher eventPublisher;
 
 
     @LogExecutionTime
@@ -52,25 +81,190 @@ public class PrivateService {
     }
 
     @LogExecutionTime
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UploadImageResponse uploadImage(MultipartFile image) {
-        String filename = UUID.randomUUID() + ".webp";
+        return uploadImage(image, image.getOriginalFilename());
+    }
+
+    /**
+     * 이미지 변환/업로드는 DB를 사용하지 않으므로 트랜잭션(커넥션) 없이 실행합니다.
+     * 비동기 작업 큐에서는 임시 파일로 옮겨둔 원본을 이 메서드로 전달합니다.
+     * 이미 업로드된 원본(SHA-256 기준)이면 디코딩/인코딩/업로드 없이 기존 URL을 반환합니다.
+     */
+    @LogExecutionTime
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UploadImageResponse uploadImage(InputStreamSource source, String originalFilename) {
+        try {
+            HashingOutputStream hashed = new HashingOutputStream(OutputStream.nullOutputStream());
+            try (InputStream in = source.getInputStream()) {
+                in.transferTo(hashed);
+            }
+            String sourceHash = hashed.hexDigest();
+            // 복제 지연으로 방금 올라간 같은 원본을 놓쳐 중복 저장하지 않도록 원본에서 조회
+            List<StoredImage> existing = ReplicaRoutingDataSource.callOnPrimary(
+                    () -> storedImageRepository.findAllBySourceHashOrderByWidthAsc(sourceHash));
+            if (!existing.isEmpty()) {
+                log.info("Duplicate image upload detected - reusing stored image for file: {}", originalFilename);
+                // 오래 방치된 이미지가 새 글에 다시 쓰이는 경우 글이 저장되기 전에 정리되지 않도록 함
+                storedImageRepository.touchBySourceHash(sourceHash, LocalDateTime.now());
+                return buildUploadImageResponse(existing);
+            }
+
+            imageProcessingExecutor.recordBytesIn(hashed.getCount());
+
+            // 디코딩/인코딩은 요청 스레드가 아닌 이미지 전용 실행기에서 수행
+            ImmutableImage decoded = imageProcessingExecutor.submit(() -> decode(source)).join();
 
-        try (InputStream in = image.getInputStream()) {
-            byte[] webpBytes = ImmutableImage.loader()
-                    .fromStream(in)
-                    .bytes(WebpWriter.DEFAULT);
+            // 한 번 디코딩한 이미지로 미리보기와 너비별 변형을 병렬로 인코딩/업로드
+            CompletableFuture<String> placeholder = imageProcessingExecutor.submit(() -> placeholder(decoded));
+            String baseName = UUID.randomUUID().toString();
+            List<CompletableFuture<StoredImage>> futures = new ArrayList<>();
+            List<StoredImage> variants;
+            try {
+                for (int width : imageVariantEncoder.targetWidths(decoded.width)) {
+                    futures.add(imageProcessingExecutor.submit(() -> storeVariant(sourceHash, baseName, decoded, width)));
+                }
+                variants = futures.stream()
+                        .map(CompletableFuture::join)
+                        .toList();
+                String placeholderUri = placeholder.join();
+                variants.forEach(variant -> variant.setPlaceholder(placeholderUri));
+                storedImageRepository.saveAll(variants);
+            } catch (RuntimeException e) {
+                // 대기열이 중간에 가득 찼거나, 일부 변형/미리보기/행 저장이 실패하면 이미 올라간 변형을 정리
+                discardVariants(baseName, futures, e);
+                throw e;
+            }
+
+            return buildUploadImageResponse(variants);
+
+        } catch (IOException | CompletionException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof IllegalArgumentException invalidImage) {
+                throw invalidImage;
+            }
+            log.error("Image conversion and saving failed for file: {}", originalFilename, cause);
+            throw new RuntimeException("이미지 변환 및 저장 실패: " + cause.getMessage(), cause);
+        }
+    }
+
+    private ImmutableImage decode(InputStreamSource source) {
+        try {
+            return imageDecoder.decode(source);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String placeholder(ImmutableImage decoded) {
+        try {
+            return imagePlaceholderGenerator.generate(decoded);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 
-            String url = imageRepository.insert(filename, webpBytes);
+    /**
+     * 제출된 변형 작업이 모두 끝나길 기다린 뒤 이번 업로드에서 새로 올린 객체만 삭제합니다.
+     * 인코딩 결과가 같아 재사용한 기존 객체(baseName 으로 시작하지 않는 키)는 남겨둡니다.
+     */
+    private void discardVariants(String baseName, List<CompletableFuture<StoredImage>> futures, RuntimeException cause) {
+        List<String> uploadedKeys = futures.stream()
+                .map(future -> future.handle((image, error) -> image).join())
+                .filter(Objects::nonNull)
+                .map(StoredImage::getStorageKey)
+                .filter(key -> key.startsWith(baseName))
+                .toList();
+        if (uploadedKeys.isEmpty()) {
+            return;
+        }
+        try {
+            Set<String> failed = imageRepository.deleteAll(uploadedKeys);
+            if (!failed.isEmpty()) {
+                log.warn("Failed to delete {} orphaned image variants: {}", failed.size(), failed);
+            }
+        } catch (RuntimeException e) {
+            cause.addSuppressed(e);
+        }
+    }
 
-            return UploadImageResponse.builder()
-                    .size(webpBytes.length)
-                    .url(url)
-                    .build();
+    private StoredImage storeVariant(String sourceHash, String baseName, ImmutableImage decoded, int width) {
+        String storageKey = imageVariantEncoder.variantKey(baseName, width, decoded.width);
+        String url;
+        HashingOutputStream encoded;
+        long startedAt = System.nanoTime();
 
+        // 인코더(cwebp)가 만든 결과물을 해시를 계산하며 저장소로 흘려보냄.
+        // 결과물 전체는 인코더 안에서 한 번 만들어지고, 업로드 쪽은 결과물 크기만큼(최대 파트 하나)만 버퍼링함
+        try (ImageUpload upload = imageRepository.openUpload(storageKey)) {
+            encoded = new HashingOutputStream(upload);
+            imageVariantEncoder.encode(decoded, width, encoded);
+            url = upload.complete();
         } catch (IOException e) {
-            log.error("Image conversion and saving failed for file: {}", image.getOriginalFilename(), e);
-            throw new RuntimeException("이미지 변환 및 저장 실패: " + e.getMessage(), e);
+            throw new UncheckedIOException(e);
+        }
+        imageProcessingExecutor.recordEncode(System.nanoTime() - startedAt, encoded.getCount());
+
+        // 다른 원본이라도 인코딩 결과가 같으면 기존 객체를 남기고 방금 올린 사본은 제거
+        String contentHash = encoded.hexDigest();
+        StoredImage sameContent = ReplicaRoutingDataSource.callOnPrimary(
+                () -> storedImageRepository.findFirstByContentHash(contentHash).orElse(null));
+        if (sameContent != null) {
+            imageRepository.delete(storageKey);
+            storageKey = sameContent.getStorageKey();
+            url = sameContent.getUrl();
+        }
+
+        return StoredImage.builder()
+                .sourceHash(sourceHash)
+                .contentHash(contentHash)
+                .storageKey(storageKey)
+                .url(url)
+                .width(width)
+                .height(ImagePlaceholderGenerator.scaledHeight(decoded, width))
+                .size(encoded.getCount())
+                .build();
+    }
+
+    private UploadImageResponse buildUploadImageResponse(List<StoredImage> storedImages) {
+        // 동시에 같은 원본이 올라온 경우 너비별 첫 항목만 사용
+        Map<Integer, StoredImage> byWidth = new TreeMap<>();
+        for (StoredImage image : storedImages) {
+            byWidth.putIfAbsent(image.getWidth(), image);
+        }
+        List<ImageVariantResponse> variants = byWidth.values().stream()
+                .map(image -> ImageVariantResponse.builder()
+                        .url(image.getUrl())
+                        .width(image.getWidth())
+                        .height(image.getHeight())
+                        .size(image.getSize())
+                        .build())
+                .toList();
+        ImageVariantResponse original = variants.get(variants.size() - 1);
+
+        return UploadImageResponse.builder()
+                .size(original.getSize())
+                .url(original.getUrl())
+                .variants(variants)
+                .srcset(toSrcset(variants))
+                .width(original.getWidth())
+                .height(original.getHeight())
+                .placeholder(storedImages.get(0).getPlaceholder())
+                .build();
+    }
+
+    private String toSrcset(List<ImageVariantResponse> variants) {
+        return variants.stream()
+                .map(variant -> variant.getUrl() + " " + variant.getWidth() + "w")
+                .collect(Collectors.joining(", "));
+    }
+
+    private Throwable unwrap(Throwable e) {
+        Throwable cause = e;
+        while ((cause instanceof CompletionException || cause instanceof UncheckedIOException) && cause.getCause() != null) {
+            cause = cause.getCause();
         }
+        return cause;
     }
 
     @LogExecutionTime
@@ -89,6 +283,7 @@ public class PrivateService {
             tagService.updatePostTags(savedPost, request.getTags());
             savedPost = postRepository.update(savedPost);
         }
+        eventPublisher.publishEvent(new PostChangedEvent(savedPost.getId()));
 
         return PostResponse.builder()
                 .id(savedPost.getId())
@@ -123,6 +318,7 @@ public class PrivateService {
         postRepository.update(post);
 
         postRepository.delete(postId);
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
 
     }
 
@@ -144,6 +340,7 @@ public class PrivateService {
         tagService.updatePostTags(post, request.getTags());
 
         Post updatedPost = postRepository.update(post);
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
 
         return PostResponse.builder()
                 .id(updatedPost.getId())
@@ -8,12 +8,16 @@ import park.bumsiku.domain.dto.request.CommentRequest;
 import park.bumsiku.domain.dto.response.*;
 import park.bumsiku.domain.entity.Comment;
 import park.bumsiku.domain.entity.Post;
+import park.bumsiku.domain.entity.StoredImage;
 import park.bumsiku.domain.entity.Tag;
 import park.bumsiku.repository.CommentRepository;
+import park.bumsiku.repository.PostPage;
 import park.bumsiku.repository.PostRepository;
+import park.bumsiku.repository.StoredImageRepository;
 import park.bumsiku.repository.TagRepository;
-import park.bumsiku.utils.integration.DiscordWebhookCreator;
 import park.bumsiku.utils.monitoring.LogExecutionTime;
+import park.bumsiku.utils.paging.CountMode;
+import park.bumsiku.utils.paging.PostCountCache;
 import park.bumsiku.utils.sorting.PostSortBuilder;
 import park.bumsiku.utils.sorting.SortCriteria;
 
@@ -23,24 +27,32 @@ import java.util.stream.Collectors;
 
 @Slf4j
 @Service
-@Transactional
 @AllArgsConstructor
+@Transactional(readOnly = true)
 public class PublicService {
 
     private PostRepository postRepository;
     private CommentRepository commentRepository;
     private TagRepository tagRepository;
     private PostSortBuilder postSortBuilder;
+    private StoredImageRepository storedImageRepository;
 
-    private DiscordWebhookCreator discord;
+    private NotificationOutboxService notificationOutboxService;
+    private PostCountCache postCountCache;
 
     @LogExecutionTime
-    public PostListResponse getPostList(int page, int size, String sort) {
+    public PostListResponse getPostList(int page, int size, String sort, CountMode countMode) {
         SortCriteria sortCriteria = postSortBuilder.buildSortCriteria(sort);
-        List<Post> posts = postRepository.findAll(page, size, sortCriteria.jpqlOrderClause());
-        int totalElements = postRepository.countAll();
+        String orderByClause = sortCriteria.jpqlOrderClause();
 
-        return buildPostListResponse(posts, totalElements, page, size);
+        Integer cached = countMode == CountMode.ESTIMATE ? postCountCache.get(null) : null;
+        if (countMode == CountMode.NONE || cached != null) {
+            List<Post> posts = postRepository.findAll(page, size, orderByClause);
+            return buildPostListResponse(posts, cached, page, size);
+        }
+        PostPage postPage = postRepository.findPageWithTotal(page, size, orderByClause);
+        postCountCache.put(null, postPage.totalElements());
+        return buildPostListResponse(postPage.posts(), postPage.totalElements(), page, size);
     }
 
 
@@ -62,6 +74,7 @@ public class PublicService {
     }
 
     @LogExecutionTime
+    @Transactional
     public CommentResponse createComment(int id, CommentRequest commentRequest) {
         Post post = requirePostById(id);
         Comment comment = Comment.builder()
@@ -71,7 +84,7 @@ public class PublicService {
                 .build();
         Comment saved = commentRepository.save(comment);
 
-        discord.sendMessage(String.format("💬 게시글 ID: %d에 '%s'님이 댓글을 작성했습니다.\n내용: %s", id, commentRequest.getAuthor(), saved.getContent()));
+        notificationOutboxService.enqueue(String.format("💬 게시글 ID: %d에 '%s'님이 댓글을 작성했습니다.\n내용: %s", id, commentRequest.getAuthor(), saved.getContent()));
 
         return buildCommentResponse(saved);
     }
@@ -88,23 +101,46 @@ public class PublicService {
     }
 
     @LogExecutionTime
-    public PostListResponse getPostsByTag(String tagName, int page, int size, String sort) {
+    public PostListResponse getPostsByTag(String tagName, int page, int size, String sort, CountMode countMode) {
         requireTagByName(tagName);
 
         SortCriteria sortCriteria = postSortBuilder.buildSortCriteria(sort);
-        List<Post> posts = postRepository.findAllByTagName(tagName, page, size, sortCriteria.jpqlOrderClause());
-        int totalElements = postRepository.countByTagName(tagName);
+        String orderByClause = sortCriteria.jpqlOrderClause();
 
-        return buildPostListResponse(posts, totalElements, page, size);
+        Integer cached = countMode == CountMode.ESTIMATE ? postCountCache.get(tagName) : null;
+        if (countMode == CountMode.NONE || cached != null) {
+            List<Post> posts = postRepository.findAllByTagName(tagName, page, size, orderByClause);
+            return buildPostListResponse(posts, cached, page, size);
+        }
+        PostPage postPage = postRepository.findPageWithTotalByTagName(tagName, page, size, orderByClause);
+        postCountCache.put(tagName, postPage.totalElements());
+        return buildPostListResponse(postPage.posts(), postPage.totalElements(), page, size);
     }
 
     @LogExecutionTime
+    @Transactional
     public void incrementPostViews(int id) {
         Post post = requirePostById(id);
         post.setViews(post.getViews() + 1);
         postRepository.update(post);
     }
 
+    @LogExecutionTime
+    public ImageMetadataResponse getImageMetadata(String url) {
+        StoredImage image = storedImageRepository.findFirstByUrl(url)
+                .orElseThrow(() -> {
+                    log.warn("Image metadata not found for url: {}", url);
+                    return new NoSuchElementException("Image not found with url: " + url);
+                });
+
+        return ImageMetadataResponse.builder()
+                .url(image.getUrl())
+                .width(image.getWidth())
+                .height(image.getHeight())
+                .placeholder(image.getPlaceholder())
+                .build();
+    }
+
     private Post requirePostById(int id) {
         Post post = postRepository.findById(id);
         if (post == null) {
@@ -139,7 +175,7 @@ public class PublicService {
                 .build();
     }
 
-    private PostListResponse buildPostListResponse(List<Post> posts, int totalElements, int page, int size) {
+    private PostListResponse buildPostListResponse(List<Post> posts, Integer totalElements, int page, int size) {
         List<PostSummaryResponse> postSummaryList = posts.stream()
                 .map(PostSummaryResponse::from)
                 .collect(Collectors.toList());
@@ -0,0 +1,327 @@
+package park.bumsiku.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.ai.retry.TransientAiException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.web.client.HttpStatusCodeException;
+import park.bumsiku.domain.dto.response.SummaryBackfillResponse;
+import park.bumsiku.domain.entity.SummaryBackfillJob;
+import park.bumsiku.domain.entity.SummaryBackfillJob.Status;
+import park.bumsiku.domain.event.PostChangedEvent;
+import park.bumsiku.repository.PostRepository;
+import park.bumsiku.repository.SummaryBackfillJobRepository;
+import park.bumsiku.utils.concurrent.ThreadFactories;
+import park.bumsiku.utils.datasource.ReplicaRoutingDataSource;
+import park.bumsiku.utils.exceptions.TooManyRequestsException;
+import park.bumsiku.utils.monitoring.LogExecutionTime;
+import park.bumsiku.utils.validation.ArgumentValidator;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 전체 게시물의 요약을 다시 생성하는 관리자 작업.
+ * <p>
+ * 게시물을 id 순 페이지로 읽어 페이지 안의 요약 요청을 제한된 동시성과 분당 호출 한도로 보내고,
+ * 페이지가 끝날 때마다 요약 변경과 체크포인트(lastPostId)를 한 트랜잭션으로 저장합니다.
+ * 작업이 중단되면 다음 실행에서 체크포인트 다음 게시물부터 이어서 처리합니다.
+ * 429 등 일시적인 오류는 지수 백오프로 재시도하고, 끝내 실패한 게시물은 기존 요약을 유지한 채 건너뜁니다.
+ */
+@Slf4j
+@Service
+public class SummaryBackfillService {
+
+    private static final long MAX_BACKOFF_MILLIS = 60_000L;
+
+    private final PostRepository postRepository;
+    private final LlmService llmService;
+    private final SummaryBackfillJobRepository jobRepository;
+    private final TransactionOperations transactionOperations;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+    private final ArgumentValidator argumentValidator;
+    private final int pageSize;
+    private final int maxRetries;
+    private final long backoffMillis;
+    private final long permitIntervalNanos;
+    private final ThreadPoolExecutor coordinator;
+    private final ThreadPoolExecutor workers;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private long nextPermitNanos = System.nanoTime();
+
+    public SummaryBackfillService(
+            PostRepository postRepository,
+            LlmService llmService,
+            SummaryBackfillJobRepository jobRepository,
+            TransactionOperations transactionOperations,
+            ApplicationEventPublisher eventPublisher,
+            Clock clock,
+            ArgumentValidator argumentValidator,
+            @Value("${llm.backfill.page-size:20}") int pageSize,
+            @Value("${llm.backfill.concurrency:2}") int concurrency,
+            @Value("${llm.backfill.requests-per-minute:60}") int requestsPerMinute,
+            @Value("${llm.backfill.max-retries:5}") int maxRetries,
+            @Value("${llm.backfill.backoff-millis:1000}") long backoffMillis,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.postRepository = postRepository;
+        this.llmService = llmService;
+        this.jobRepository = jobRepository;
+        this.transactionOperations = transactionOperations;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.argumentValidator = argumentValidator;
+        this.pageSize = pageSize;
+        this.maxRetries = maxRetries;
+        this.backoffMillis = backoffMillis;
+        this.permitIntervalNanos = TimeUnit.MINUTES.toNanos(1) / requestsPerMinute;
+        this.coordinator = new ThreadPoolExecutor(
+                1, 1,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                ThreadFactories.named("summary-backfill-", virtualThreads));
+        this.workers = new ThreadPoolExecutor(
+                concurrency, concurrency,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                ThreadFactories.named("summary-backfill-worker-", virtualThreads));
+    }
+
+    /**
+     * 작업을 시작합니다. resume 이면 완료되지 않은 마지막 작업을 체크포인트부터 이어서 처리합니다.
+     */
+    @LogExecutionTime
+    public SummaryBackfillResponse start(boolean resume) {
+        if (!running.compareAndSet(false, true)) {
+            throw new TooManyRequestsException("요약 재생성 작업이 이미 실행 중입니다");
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now(clock);
+            SummaryBackfillJob job = resume ? resumableJob() : null;
+            if (job == null) {
+                job = SummaryBackfillJob.builder()
+                        .lastPostId(0)
+                        .startedAt(now)
+                        .build();
+            } else {
+                log.info("Resuming summary backfill job {} after post {}", job.getId(), job.getLastPostId());
+            }
+            job.setStatus(Status.RUNNING);
+            job.setTotalPosts(postRepository.countAll());
+            job.setLastError(null);
+            job.setFinishedAt(null);
+            job.setUpdatedAt(now);
+            SummaryBackfillJob saved = jobRepository.save(job);
+
+            // 게시물 본문과 체크포인트는 방금 쓴 내용을 다시 읽으므로 작업 스레드 전체를 원본에 고정
+            coordinator.execute(() -> ReplicaRoutingDataSource.runOnPrimary(() -> run(saved)));
+            return toResponse(saved);
+        } catch (RuntimeException e) {
+            running.set(false);
+            if (e instanceof RejectedExecutionException) {
+                throw new TooManyRequestsException("요약 재생성 작업을 시작할 수 없습니다");
+            }
+            throw e;
+        }
+    }
+
+    public SummaryBackfillResponse getProgress() {
+        return jobRepository.findFirstByOrderByIdDesc()
+                .map(this::toResponse)
+                .orElseThrow(() -> new NoSuchElementException("Summary backfill job not found"));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    void run(SummaryBackfillJob job) {
+        try {
+            List<Object[]> page;
+            while (!(page = postRepository.findContentsAfter(job.getLastPostId(), pageSize)).isEmpty()) {
+                processPage(job, page);
+            }
+            job.setStatus(Status.COMPLETED);
+            job.setFinishedAt(LocalDateTime.now(clock));
+            job.setUpdatedAt(job.getFinishedAt());
+            jobRepository.save(job);
+            // 최근 요약을 few-shot 예시로 쓰는 캐시를 갱신
+            eventPublisher.publishEvent(new PostChangedEvent(null));
+            log.info("Summary backfill job {} completed: {} processed, {} failed",
+                    job.getId(), job.getProcessedPosts(), job.getFailedPosts());
+        } catch (RuntimeException e) {
+            log.error("Summary backfill job {} failed after post {}", job.getId(), job.getLastPostId(), e);
+            job.setStatus(Status.FAILED);
+            job.setLastError(truncate(e.getMessage()));
+            job.setFinishedAt(LocalDateTime.now(clock));
+            job.setUpdatedAt(job.getFinishedAt());
+            jobRepository.save(job);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void processPage(SummaryBackfillJob job, List<Object[]> page) {
+        List<CompletableFuture<String>> futures = page.stream()
+                .map(row -> CompletableFuture.supplyAsync(
+                        () -> summarize((Integer) row[0], (String) row[1]), workers))
+                .toList();
+
+        Map<Integer, String> summaries = new LinkedHashMap<>();
+        int failed = 0;
+        for (int i = 0; i < page.size(); i++) {
+            int postId = (Integer) page.get(i)[0];
+            String summary = futures.get(i).join();
+            if (isValid(postId, summary)) {
+                summaries.put(postId, summary);
+            } else {
+                failed++;
+            }
+        }
+
+        int lastPostId = (Integer) page.get(page.size() - 1)[0];
+        int failedInPage = failed;
+        transactionOperations.executeWithoutResult(status -> {
+            summaries.forEach(postRepository::updateSummary);
+            job.setLastPostId(lastPostId);
+            job.setProcessedPosts(job.getProcessedPosts() + summaries.size());
+            job.setFailedPosts(job.getFailedPosts() + failedInPage);
+            job.setUpdatedAt(LocalDateTime.now(clock));
+            jobRepository.save(job);
+        });
+        log.info("Summary backfill job {} checkpoint at post {} ({} updated, {} failed)",
+                job.getId(), lastPostId, summaries.size(), failedInPage);
+    }
+
+    /**
+     * 관리자가 직접 쓴 요약과 같은 규칙(1~200자)을 지키는 요약만 반영합니다.
+     */
+    private boolean isValid(int postId, String summary) {
+        if (summary == null) {
+            return false;
+        }
+        try {
+            argumentValidator.validateSummary(summary);
+            return true;
+        } catch (IllegalArgumentException e) {
+            log.warn("Summary backfill skipped post {}: {} ({} chars)", postId, e.getMessage(), summary.length());
+            return false;
+        }
+    }
+
+    /**
+     * 요약 하나를 생성합니다. 재시도해도 실패하면 null 을 반환해 해당 게시물만 건너뜁니다.
+     */
+    private String summarize(int postId, String content) {
+        for (int attempt = 0; ; attempt++) {
+            acquirePermit();
+            try {
+                return llmService.generateSummary(content);
+            } catch (RuntimeException e) {
+                if (!isRetryable(e) || attempt >= maxRetries) {
+                    log.warn("Summary backfill skipped post {} after {} attempts: {}", postId, attempt + 1, e.getMessage());
+                    return null;
+                }
+                long delay = Math.min(MAX_BACKOFF_MILLIS, backoffMillis << attempt);
+                delay += ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+                log.info("Summary backfill rate limited on post {}, retrying in {}ms", postId, delay);
+                sleep(TimeUnit.MILLISECONDS.toNanos(delay));
+            }
+        }
+    }
+
+    /**
+     * 분당 호출 한도에 맞춰 호출 간격을 둡니다. 모든 작업 스레드가 같은 간격을 공유합니다.
+     */
+    private void acquirePermit() {
+        long wait;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long at = Math.max(now, nextPermitNanos);
+            nextPermitNanos = at + permitIntervalNanos;
+            wait = at - now;
+        }
+        sleep(wait);
+    }
+
+    /**
+     * 한도 초과(429)와 일시적 오류만 재시도합니다. 메시지 속 숫자가 아니라 예외 타입과 상태 코드로 판단합니다.
+     * Spring AI 는 4xx 응답을 상태 코드를 앞에 붙인 NonTransientAiException("429 - ...") 으로 던지므로 그 접두사를 상태 코드로 봅니다.
+     */
+    static boolean isRetryable(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TransientAiException || cause instanceof TooManyRequestsException) {
+                return true;
+            }
+            if (cause instanceof HttpStatusCodeException http
+                    && http.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)) {
+                return true;
+            }
+            if (cause instanceof NonTransientAiException && cause.getMessage() != null
+                    && cause.getMessage().startsWith(HttpStatus.TOO_MANY_REQUESTS.value() + " - ")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void sleep(long nanos) {
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("요약 재생성 작업이 중단되었습니다", e);
+        }
+    }
+
+    private SummaryBackfillJob resumableJob() {
+        // 복제본의 오래된 체크포인트에서 이어가지 않도록 원본에서 읽음
+        return ReplicaRoutingDataSource.callOnPrimary(() -> jobRepository.findFirstByOrderByIdDesc()
+                .filter(job -> job.getStatus() != Status.COMPLETED)
+                .orElse(null));
+    }
+
+    private SummaryBackfillResponse toResponse(SummaryBackfillJob job) {
+        return SummaryBackfillResponse.builder()
+                .jobId(job.getId())
+                .status(job.getStatus().name())
+                .active(running.get() && job.getStatus() == Status.RUNNING)
+                .totalPosts(job.getTotalPosts())
+                .processedPosts(job.getProcessedPosts())
+                .failedPosts(job.getFailedPosts())
+                .lastPostId(job.getLastPostId())
+                .lastError(job.getLastError())
+                .startedAt(job.getStartedAt().toString())
+                .updatedAt(job.getUpdatedAt().toString())
+                .finishedAt(job.getFinishedAt() == null ? null : job.getFinishedAt().toString())
+                .build();
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= 1000) {
+            return message;
+        }
+        return message.substring(0, 1000);
+    }
+}
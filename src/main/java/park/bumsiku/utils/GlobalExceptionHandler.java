@@ -14,6 +14,8 @@ import org.springframework.web.method.annotation.MethodArgumentTypeMismatchExcep
 import org.springframework.web.servlet.resource.NoResourceFoundException;
 import park.bumsiku.domain.dto.response.Response;
 import park.bumsiku.utils.exceptions.ResourceGoneException;
+import park.bumsiku.utils.exceptions.TooManyRequestsException;
+import park.bumsiku.utils.exceptions.UpstreamTimeoutException;
 import park.bumsiku.utils.integration.DiscordWebhookCreator;
 
 import java.util.NoSuchElementException;
@@ -100,4 +102,14 @@ public class GlobalExceptionHandler {
     public ResponseEntity<Response<Void>> handleResourceGone(ResourceGoneException e) {
         return handleException("Resource gone: {}", e, HttpStatus.GONE, null, "Resource Gone");
     }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<Response<Void>> handleTooManyRequests(TooManyRequestsException e) {
+        return handleException("Too many requests: {}", e, HttpStatus.TOO_MANY_REQUESTS, null, "Too Many Requests");
+    }
+
+    @ExceptionHandler(UpstreamTimeoutException.class)
+    public ResponseEntity<Response<Void>> handleUpstreamTimeout(UpstreamTimeoutException e) {
+        return handleException("Upstream timeout: {}", e, HttpStatus.GATEWAY_TIMEOUT, null, "Gateway Timeout");
+    }
 }
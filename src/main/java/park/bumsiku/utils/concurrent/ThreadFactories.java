@@ -0,0 +1,24 @@
+package park.bumsiku.utils.concurrent;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 작업 풀의 스레드 생성 방식을 고릅니다.
+ * <p>
+ * {@code spring.threads.virtual.enabled} 가 켜져 있으면 Tomcat 요청 처리와 @Async 처럼 I/O 를 기다리는 풀도
+ * 가상 스레드를 씁니다. 풀 크기는 그대로 두므로 동시 실행 수 제한은 유지되고, 대기 중인 스레드만 가벼워집니다.
+ */
+public final class ThreadFactories {
+
+    private ThreadFactories() {
+    }
+
+    public static ThreadFactory named(String prefix, boolean virtual) {
+        if (virtual) {
+            return Thread.ofVirtual().name(prefix, 1).factory();
+        }
+        return new CustomizableThreadFactory(prefix);
+    }
+}
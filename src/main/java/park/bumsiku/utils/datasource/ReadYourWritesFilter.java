@@ -0,0 +1,74 @@
+package park.bumsiku.utils.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 세션에서 쓰기 요청이 성공하면 잠시 동안 그 세션의 읽기를 원본 DB 로 보냅니다.
+ * <p>
+ * 관리자가 글을 저장한 직전 화면을 다시 읽을 때 아직 복제되지 않은 복제본을 보지 않게 합니다.
+ * 세션은 관리자 로그인에서만 만들어지므로 익명 요청은 영향을 받지 않습니다.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String PRIMARY_UNTIL_ATTRIBUTE = ReadYourWritesFilter.class.getName() + ".PRIMARY_UNTIL";
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+    private final Clock clock;
+    private final Duration stickiness;
+
+    public ReadYourWritesFilter(Clock clock, Duration stickiness) {
+        this.clock = clock;
+        this.stickiness = stickiness;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean pinned = wroteRecently(request.getSession(false));
+        if (pinned) {
+            ReplicaRoutingDataSource.pinToPrimary();
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (pinned) {
+                ReplicaRoutingDataSource.unpin();
+            }
+            if (!SAFE_METHODS.contains(request.getMethod()) && response.getStatus() < 400) {
+                markWrite(request.getSession(false));
+            }
+        }
+    }
+
+    private void markWrite(HttpSession session) {
+        if (session == null) {
+            return;
+        }
+        try {
+            session.setAttribute(PRIMARY_UNTIL_ATTRIBUTE, clock.millis() + stickiness.toMillis());
+        } catch (IllegalStateException invalidated) {
+            // 로그아웃처럼 요청 중에 세션이 끝난 경우
+        }
+    }
+
+    private boolean wroteRecently(HttpSession session) {
+        if (session == null) {
+            return false;
+        }
+        try {
+            return session.getAttribute(PRIMARY_UNTIL_ATTRIBUTE) instanceof Long until && clock.millis() < until;
+        } catch (IllegalStateException invalidated) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package park.bumsiku.utils.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션의 커넥션을 복제본으로, 나머지는 원본으로 보냅니다.
+ * <p>
+ * 트랜잭션 시작 시점에는 읽기 전용 여부가 아직 정해지지 않으므로
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} 로 감싸 첫 쿼리 때 커넥션을 고르게 해야 합니다.
+ * {@link #pinToPrimary()} 가 걸린 스레드는 읽기 전용이어도 원본을 사용합니다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    /**
+     * 현재 스레드의 읽기 쿼리를 원본으로 보냅니다. 방금 쓴 내용을 복제 지연 없이 다시 읽어야 할 때 사용합니다.
+     */
+    public static void pinToPrimary() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    public static void unpin() {
+        PINNED.remove();
+    }
+
+    /**
+     * 작업 동안만 원본에 고정하고 이전 상태로 되돌립니다.
+     * Spring Data 조회 메서드는 읽기 전용 트랜잭션으로 실행되므로, 방금 원본에 쓴 행을 다시 읽는 백그라운드 작업은 이 안에서 실행합니다.
+     */
+    public static <T> T callOnPrimary(Supplier<T> task) {
+        boolean wasPinned = PINNED.get() != null;
+        pinToPrimary();
+        try {
+            return task.get();
+        } finally {
+            if (!wasPinned) {
+                unpin();
+            }
+        }
+    }
+
+    public static void runOnPrimary(Runnable task) {
+        callOnPrimary(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return currentRoute();
+    }
+
+    static Route currentRoute() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && PINNED.get() == null) {
+            return Route.REPLICA;
+        }
+        return Route.PRIMARY;
+    }
+}
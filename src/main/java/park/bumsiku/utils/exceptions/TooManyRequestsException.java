@@ -0,0 +1,7 @@
+package park.bumsiku.utils.exceptions;
+
+public class TooManyRequestsException extends RuntimeException {
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package park.bumsiku.utils.exceptions;
+
+public class UpstreamTimeoutException extends RuntimeException {
+    public UpstreamTimeoutException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,43 @@
+package park.bumsiku.utils.image;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+/**
+ * 통과하는 바이트의 SHA-256 해시와 크기를 계산하는 스트림.
+ * 인코딩 결과를 메모리에 모으지 않고도 중복 판별과 크기 기록이 가능합니다.
+ */
+public class HashingOutputStream extends FilterOutputStream {
+
+    private final MessageDigest digest = ImageHashes.newDigest();
+    private long count;
+
+    public HashingOutputStream(OutputStream out) {
+        super(out);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        out.write(b);
+        digest.update((byte) b);
+        count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+        digest.update(b, off, len);
+        count += len;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public String hexDigest() {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
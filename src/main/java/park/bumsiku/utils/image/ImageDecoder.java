@@ -0,0 +1,106 @@
+package park.bumsiku.utils.image;
+
+import com.sksamuel.scrimage.ImmutableImage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+/**
+ * 업로드 이미지를 디코딩합니다.
+ * 헤더로 크기를 먼저 확인해 크기를 알 수 없거나 픽셀 한도를 넘으면 거절하고(decompression bomb 방지),
+ * 가장 큰 변형(최대 너비 x 최대 높이 안에 맞춘 크기)보다 큰 이미지는 가로·세로 중 더 많이 줄여야 하는 쪽을 기준으로
+ * 디코딩 단계에서 서브샘플링해 메모리 사용량을 출력 크기 수준으로 제한합니다.
+ * 최대 높이 기본값은 WebP 가 표현할 수 있는 최대 크기(16383px)입니다.
+ */
+@Slf4j
+@Component
+public class ImageDecoder {
+
+    private final long maxPixels;
+    private final int maxWidth;
+    private final int maxHeight;
+
+    public ImageDecoder(
+            @Value("${image.decode.max-pixels:40000000}") long maxPixels,
+            @Value("${image.decode.max-width:2560}") int maxWidth,
+            @Value("${image.decode.max-height:16383}") int maxHeight) {
+        this.maxPixels = maxPixels;
+        this.maxWidth = maxWidth;
+        this.maxHeight = maxHeight;
+    }
+
+    public ImmutableImage decode(InputStreamSource source) throws IOException {
+        ImageDimensions dimensions;
+        try (InputStream in = source.getInputStream()) {
+            dimensions = ImageHeaderReader.read(in).orElse(null);
+        }
+        // 크기를 확인할 수 없는 이미지는 픽셀 한도를 적용할 수 없으므로 디코딩하지 않음
+        if (dimensions == null) {
+            log.warn("Image rejected: dimensions could not be read from header");
+            throw new IllegalArgumentException("이미지 크기를 확인할 수 없습니다");
+        }
+        if (dimensions.pixels() > maxPixels) {
+            log.warn("Image rejected by pixel budget: {}x{}", dimensions.width(), dimensions.height());
+            throw new IllegalArgumentException("이미지 해상도가 너무 큽니다 (최대 " + maxPixels + " 화소)");
+        }
+
+        ImmutableImage image = null;
+        int factor = subsampleFactor(dimensions.width(), dimensions.height());
+        if (factor >= 2) {
+            image = decodeSubsampled(source, factor);
+        }
+        if (image == null) {
+            try (InputStream in = source.getInputStream()) {
+                image = ImmutableImage.loader().fromStream(in);
+            }
+        }
+        return fit(image);
+    }
+
+    /**
+     * 서브샘플링한 결과가 가장 큰 변형보다 작아지지 않는 최대 정수 배율을 구합니다.
+     */
+    int subsampleFactor(int width, int height) {
+        return (int) Math.max(1, Math.floor(Math.max(width / (double) maxWidth, height / (double) maxHeight)));
+    }
+
+    private ImmutableImage fit(ImmutableImage image) {
+        boolean widthBound = (long) image.width * maxHeight >= (long) image.height * maxWidth;
+        if (widthBound) {
+            return image.width > maxWidth ? image.scaleToWidth(maxWidth) : image;
+        }
+        return image.height > maxHeight ? image.scaleToHeight(maxHeight) : image;
+    }
+
+    private ImmutableImage decodeSubsampled(InputStreamSource source, int factor) throws IOException {
+        try (InputStream in = source.getInputStream();
+             ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = iis == null ? null : ImageIO.getImageReaders(iis);
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(factor, factor, 0, 0);
+                return ImmutableImage.fromAwt(reader.read(0, param));
+            } catch (IOException e) {
+                // CMYK JPEG 등 ImageIO 가 지원하지 않는 경우 기본 로더로 재시도
+                log.debug("Subsampled decode failed, falling back to full decode: {}", e.getMessage());
+                return null;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package park.bumsiku.utils.image;
+
+public record ImageDimensions(int width, int height) {
+
+    public long pixels() {
+        return (long) width * height;
+    }
+}
@@ -0,0 +1,91 @@
+package park.bumsiku.utils.image;
+
+import com.sksamuel.scrimage.ImmutableImage;
+import com.sksamuel.scrimage.nio.ImageWriter;
+import com.sksamuel.scrimage.nio.JpegWriter;
+import com.sksamuel.scrimage.webp.WebpWriter;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 이미지 전송 형식.
+ * 원본은 WebP 로 저장되며, Accept/Save-Data 헤더에 따라 JPEG 대체본이나 고압축 WebP 로 변환해 제공합니다.
+ */
+public enum ImageFormat {
+
+    WEBP(MediaType.parseMediaType("image/webp"), "webp", WebpWriter.DEFAULT),
+    WEBP_COMPACT(MediaType.parseMediaType("image/webp"), "compact.webp", WebpWriter.DEFAULT.withQ(50).withM(6)),
+    JPEG(MediaType.IMAGE_JPEG, "jpg", new JpegWriter(80, true));
+
+    private final MediaType mediaType;
+    private final String suffix;
+    private final ImageWriter writer;
+
+    ImageFormat(MediaType mediaType, String suffix, ImageWriter writer) {
+        this.mediaType = mediaType;
+        this.suffix = suffix;
+        this.writer = writer;
+    }
+
+    /**
+     * Accept 헤더가 없으면 원본(WebP), WebP 가 q=0 으로 제외되거나 image/webp·와일드카드 항목이 없으면 JPEG,
+     * WebP 를 받으면서 Save-Data: on 이면 고압축 WebP 를 선택합니다.
+     */
+    public static ImageFormat negotiate(String accept, String saveData) {
+        if (accept == null || accept.isBlank()) {
+            return WEBP;
+        }
+        if (webpQuality(accept) <= 0) {
+            return JPEG;
+        }
+        return "on".equalsIgnoreCase(saveData == null ? null : saveData.trim()) ? WEBP_COMPACT : WEBP;
+    }
+
+    /**
+     * image/webp 에 적용되는 q 값. image/webp, image/*, 전체 와일드카드 순으로 가장 구체적인 항목의 값을 따릅니다.
+     */
+    private static double webpQuality(String accept) {
+        List<MediaType> types;
+        try {
+            types = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return 0;
+        }
+        MediaType webp = WEBP.mediaType;
+        return types.stream()
+                .filter(type -> type.includes(webp))
+                .max(Comparator.comparingInt(ImageFormat::specificity))
+                .map(MediaType::getQualityValue)
+                .orElse(0.0);
+    }
+
+    private static int specificity(MediaType type) {
+        if (type.isWildcardType()) {
+            return 0;
+        }
+        return type.isWildcardSubtype() ? 1 : 2;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * 변환 결과의 캐시 키. 예: {@code abc.webp} → {@code abc.webp.640w.jpg}
+     */
+    public String variantKey(String key, Integer width) {
+        return key + (width == null ? "" : "." + width + "w") + "." + suffix;
+    }
+
+    public void write(ImmutableImage image, OutputStream out) throws IOException {
+        // JPEG 는 투명도를 지원하지 않으므로 흰 배경으로 합성
+        ImmutableImage target = this == JPEG ? image.removeTransparency(Color.WHITE) : image;
+        target.forWriter(writer).write(out);
+    }
+}
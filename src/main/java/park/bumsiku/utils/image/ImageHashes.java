@@ -0,0 +1,21 @@
+package park.bumsiku.utils.image;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 이미지 중복 판별용 SHA-256 해시 유틸리티
+ */
+public final class ImageHashes {
+
+    private ImageHashes() {
+    }
+
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package park.bumsiku.utils.image;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Optional;
+
+/**
+ * 픽셀 데이터를 디코딩하지 않고 헤더만 읽어 이미지 크기를 구합니다.
+ * PNG/WebP 는 헤더를 직접 해석하고, 그 외 형식(JPEG, GIF)은 ImageIO 리더의 헤더 파싱을 사용합니다.
+ * 크기를 알 수 없거나 0 이하인 경우(손상되거나 조작된 헤더) 빈 값을 반환합니다.
+ */
+public final class ImageHeaderReader {
+
+    private static final int HEADER_LENGTH = 30;
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'};
+
+    private ImageHeaderReader() {
+    }
+
+    public static Optional<ImageDimensions> read(InputStream in) throws IOException {
+        return readHeader(in).filter(dimensions -> dimensions.width() > 0 && dimensions.height() > 0);
+    }
+
+    private static Optional<ImageDimensions> readHeader(InputStream in) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(in);
+        buffered.mark(HEADER_LENGTH);
+        byte[] header = buffered.readNBytes(HEADER_LENGTH);
+
+        if (isPng(header)) {
+            return Optional.of(new ImageDimensions(int32(header, 16), int32(header, 20)));
+        }
+        if (isWebp(header)) {
+            Optional<ImageDimensions> webp = readWebp(header);
+            if (webp.isPresent()) {
+                return webp;
+            }
+        }
+
+        // 직접 해석하지 않는 형식(또는 알 수 없는 WebP 청크)은 ImageIO 리더의 헤더 파싱으로 크기를 구함
+        buffered.reset();
+        return readWithImageIo(buffered);
+    }
+
+    private static boolean isPng(byte[] header) {
+        return header.length >= 24 && Arrays.equals(header, 0, 8, PNG_SIGNATURE, 0, 8);
+    }
+
+    private static boolean isWebp(byte[] header) {
+        return header.length >= HEADER_LENGTH
+                && ascii(header, 0).equals("RIFF")
+                && ascii(header, 8).equals("WEBP");
+    }
+
+    private static Optional<ImageDimensions> readWebp(byte[] h) {
+        switch (ascii(h, 12)) {
+            case "VP8X" -> {
+                // 확장 포맷: 캔버스 크기(24bit, -1 저장)
+                int width = 1 + ((h[24] & 0xff) | (h[25] & 0xff) << 8 | (h[26] & 0xff) << 16);
+                int height = 1 + ((h[27] & 0xff) | (h[28] & 0xff) << 8 | (h[29] & 0xff) << 16);
+                return Optional.of(new ImageDimensions(width, height));
+            }
+            case "VP8 " -> {
+                // 손실 압축: 키프레임 헤더 뒤 14bit 너비/높이
+                int width = ((h[26] & 0xff) | (h[27] & 0xff) << 8) & 0x3fff;
+                int height = ((h[28] & 0xff) | (h[29] & 0xff) << 8) & 0x3fff;
+                return Optional.of(new ImageDimensions(width, height));
+            }
+            case "VP8L" -> {
+                // 무손실 압축: 시그니처(0x2f) 뒤 14bit 너비-1, 14bit 높이-1
+                int width = 1 + (((h[22] & 0x3f) << 8) | (h[21] & 0xff));
+                int height = 1 + (((h[24] & 0x0f) << 10) | ((h[23] & 0xff) << 2) | ((h[22] & 0xc0) >> 6));
+                return Optional.of(new ImageDimensions(width, height));
+            }
+            default -> {
+                return Optional.empty();
+            }
+        }
+    }
+
+    private static Optional<ImageDimensions> readWithImageIo(InputStream in) throws IOException {
+        try (ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+            if (iis == null) {
+                return Optional.empty();
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+            if (!readers.hasNext()) {
+                return Optional.empty();
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+                return Optional.of(new ImageDimensions(reader.getWidth(0), reader.getHeight(0)));
+            } catch (IOException e) {
+                return Optional.empty();
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static int int32(byte[] b, int offset) {
+        return (b[offset] & 0xff) << 24 | (b[offset + 1] & 0xff) << 16 | (b[offset + 2] & 0xff) << 8 | (b[offset + 3] & 0xff);
+    }
+
+    private static String ascii(byte[] b, int offset) {
+        return new String(b, offset, 4, StandardCharsets.US_ASCII);
+    }
+}
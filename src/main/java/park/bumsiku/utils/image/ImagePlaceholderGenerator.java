@@ -0,0 +1,54 @@
+package park.bumsiku.utils.image;
+
+import com.sksamuel.scrimage.ImmutableImage;
+import com.sksamuel.scrimage.webp.WebpWriter;
+import org.springframework.stereotype.Component;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.ConvolveOp;
+import java.awt.image.Kernel;
+import java.io.IOException;
+import java.util.Base64;
+
+/**
+ * 본문에 바로 넣을 수 있는 저화질 흐림 미리보기(LQIP)를 만듭니다.
+ * 가로·세로 모두 20px 안에 들어오도록 줄인 뒤 3x3 가우시안 블러를 적용하고 WebP data URI 로 인코딩합니다.
+ * 세로로 아주 긴 이미지도 {@code stored_image.placeholder} 컬럼(1000자)을 넘지 않도록 높이도 제한합니다.
+ */
+@Component
+public class ImagePlaceholderGenerator {
+
+    private static final int MAX_SIZE = 20;
+    private static final int MAX_LENGTH = 1000;
+    private static final String PREFIX = "data:image/webp;base64,";
+    private static final WebpWriter WRITER = WebpWriter.DEFAULT.withQ(30);
+    private static final Kernel BLUR = new Kernel(3, 3, new float[]{
+            1 / 16f, 2 / 16f, 1 / 16f,
+            2 / 16f, 4 / 16f, 2 / 16f,
+            1 / 16f, 2 / 16f, 1 / 16f
+    });
+
+    /**
+     * 미리보기를 만들 수 없을 만큼 결과가 크면 null 을 반환합니다. (미리보기 없이 저장)
+     */
+    public String generate(ImmutableImage source) throws IOException {
+        double scale = Math.min(1.0, Math.min(MAX_SIZE / (double) source.width, MAX_SIZE / (double) source.height));
+        ImmutableImage small = scale < 1.0
+                ? source.scaleTo(Math.max(1, (int) (source.width * scale)), Math.max(1, (int) (source.height * scale)))
+                : source;
+        BufferedImage blurred = new ConvolveOp(BLUR, ConvolveOp.EDGE_NO_OP, null).filter(small.awt(), null);
+        byte[] encoded = ImmutableImage.fromAwt(blurred).bytes(WRITER);
+        String dataUri = PREFIX + Base64.getEncoder().encodeToString(encoded);
+        return dataUri.length() <= MAX_LENGTH ? dataUri : null;
+    }
+
+    /**
+     * {@link ImmutableImage#scaleToWidth(int)} 와 같은 방식으로 비율을 유지한 높이를 계산합니다.
+     */
+    public static int scaledHeight(ImmutableImage source, int width) {
+        if (width >= source.width) {
+            return source.height;
+        }
+        return (int) (width / (double) source.width * source.height);
+    }
+}
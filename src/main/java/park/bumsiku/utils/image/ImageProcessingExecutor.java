@@ -0,0 +1,117 @@
+package park.bumsiku.utils.image;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import park.bumsiku.utils.exceptions.TooManyRequestsException;
+
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 이미지 디코딩/인코딩 전용 실행기입니다.
+ * 요청 처리용으로 코어 하나를 남겨두고 나머지 코어 수만큼만 동시에 변환하며,
+ * 대기열이 가득 차면 설정에 따라 429로 거절(abort)하거나 호출 스레드에서 실행(caller-runs)합니다.
+ * 작업은 다른 작업을 기다리지 않으므로 호출 측이 디코딩 후 인코딩을 순서대로 제출합니다.
+ */
+@Slf4j
+@Component
+public class ImageProcessingExecutor {
+
+    public enum RejectionPolicy {
+        ABORT, CALLER_RUNS
+    }
+
+    private final ThreadPoolExecutor executor;
+    private final Timer queueWait;
+    private final Timer encodeTime;
+    private final DistributionSummary bytesIn;
+    private final DistributionSummary bytesOut;
+
+    public ImageProcessingExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${image.processing.pool-size:0}") int poolSize,
+            @Value("${image.processing.queue-capacity:32}") int queueCapacity,
+            @Value("${image.processing.rejection-policy:abort}") String rejectionPolicy) {
+        int threads = poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("image-processing-"),
+                rejectionHandler(rejectionPolicy));
+
+        this.queueWait = Timer.builder("image.processing.queue.wait")
+                .description("Time image tasks spend waiting in the processing queue")
+                .register(meterRegistry);
+        this.encodeTime = Timer.builder("image.processing.encode")
+                .description("Time spent encoding and streaming a single image variant")
+                .register(meterRegistry);
+        this.bytesIn = DistributionSummary.builder("image.processing.bytes")
+                .tag("direction", "in")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.bytesOut = DistributionSummary.builder("image.processing.bytes")
+                .tag("direction", "out")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("image.processing.queue.size", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("image.processing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+
+        log.info("Image processing executor started with {} threads, queue capacity {}", threads, queueCapacity);
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        long enqueuedAt = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                queueWait.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                try {
+                    future.complete(task.get());
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Image processing queue saturated - rejecting task");
+            throw new TooManyRequestsException("이미지 처리 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요");
+        }
+        return future;
+    }
+
+    public void recordBytesIn(long bytes) {
+        bytesIn.record(bytes);
+    }
+
+    public void recordEncode(long elapsedNanos, long encodedBytes) {
+        encodeTime.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        bytesOut.record(encodedBytes);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static RejectedExecutionHandler rejectionHandler(String policy) {
+        return switch (RejectionPolicy.valueOf(policy.trim().replace('-', '_').toUpperCase(Locale.ROOT))) {
+            case ABORT -> new ThreadPoolExecutor.AbortPolicy();
+            case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+        };
+    }
+}
@@ -0,0 +1,65 @@
+package park.bumsiku.utils.image;
+
+import com.sksamuel.scrimage.ImmutableImage;
+import com.sksamuel.scrimage.webp.WebpWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 업로드 이미지 한 장으로부터 반응형 너비별 WebP 변형을 만듭니다.
+ * 원본보다 넓은 너비는 건너뛰고, 원본 크기 변형은 항상 마지막에 포함됩니다.
+ */
+@Component
+public class ImageVariantEncoder {
+
+    private final int[] widths;
+
+    public ImageVariantEncoder(@Value("${image.variants.widths:320,640,1280}") int[] widths) {
+        this.widths = Arrays.stream(widths)
+                .filter(width -> width > 0)
+                .distinct()
+                .sorted()
+                .toArray();
+    }
+
+    public List<Integer> targetWidths(int sourceWidth) {
+        return IntStream.concat(
+                        Arrays.stream(widths).filter(width -> width < sourceWidth),
+                        IntStream.of(sourceWidth))
+                .boxed()
+                .toList();
+    }
+
+    /**
+     * 요청 너비를 설정된 너비 중 그 이상인 가장 작은 값으로 맞춥니다.
+     * 요청이 없거나 모든 설정 너비보다 크면 원본 크기를 뜻하는 null 을 반환합니다.
+     */
+    public Integer snapWidth(Integer requested) {
+        if (requested == null) {
+            return null;
+        }
+        return Arrays.stream(widths)
+                .filter(width -> width >= requested)
+                .boxed()
+                .findFirst()
+                .orElse(null);
+    }
+
+    public String variantKey(String baseName, int width, int sourceWidth) {
+        if (width >= sourceWidth) {
+            return baseName + ".webp";
+        }
+        return baseName + "-" + width + "w.webp";
+    }
+
+    public void encode(ImmutableImage source, int width, OutputStream out) throws IOException {
+        ImmutableImage target = width >= source.width ? source : source.scaleToWidth(width);
+        target.forWriter(WebpWriter.DEFAULT).write(out);
+    }
+}
@@ -1,46 +1,220 @@
 package park.bumsiku.utils.integration;
 
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
-
+/**
+ * Discord 웹훅 알림 발송기.
+ * <p>
+ * {@link #sendMessage(String)} 는 메시지를 제한된 크기의 대기열에 넣고 바로 반환하므로 요청 스레드를 막지 않습니다.
+ * 발송 스레드 하나가 첫 메시지 이후 짧은 구간 동안 들어온 메시지를 모아 한 번의 웹훅 요청으로 보내고,
+ * 429 응답을 받으면 Retry-After 만큼 기다렸다가 다시 보냅니다.
+ * 대기열이 가득 차면 새 메시지는 버리고, 버린 건수를 다음 발송에 요약해 알립니다.
+ * <p>
+ * 유실되면 안 되는 알림은 아웃박스 릴레이가 {@link #deliver(List)} 로 직접 보냅니다.
+ */
 @Component
 public class DiscordWebhookCreator {
 
     private static final Logger log = LoggerFactory.getLogger(DiscordWebhookCreator.class);
+
+    /**
+     * Discord 웹훅 content 최대 길이
+     */
+    static final int MAX_CONTENT_LENGTH = 2000;
+    private static final String SEPARATOR = "\n\n";
+    private static final int MAX_ATTEMPTS = 5;
+    private static final long DEFAULT_RETRY_AFTER_MILLIS = 1000L;
+
     private final RestTemplate restTemplate;
-    @Value("${discord.url}")
-    private String apiUrl;
+    private final String apiUrl;
+    private final long coalesceWindowNanos;
+    private final BlockingQueue<String> queue;
+    private final AtomicInteger dropped = new AtomicInteger();
+    private final ThreadPoolExecutor dispatcher;
 
-    public DiscordWebhookCreator(RestTemplate restTemplate) {
+    public DiscordWebhookCreator(
+            RestTemplate restTemplate,
+            @Value("${discord.url}") String apiUrl,
+            @Value("${discord.queue-capacity:200}") int queueCapacity,
+            @Value("${discord.coalesce-window-millis:2000}") long coalesceWindowMillis) {
         this.restTemplate = restTemplate;
+        this.apiUrl = apiUrl;
+        this.coalesceWindowNanos = TimeUnit.MILLISECONDS.toNanos(coalesceWindowMillis);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.dispatcher = new ThreadPoolExecutor(
+                1, 1,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                new CustomizableThreadFactory("discord-dispatcher-"));
+        this.dispatcher.execute(this::dispatchLoop);
     }
 
-    @Async
     public void sendMessage(String message) {
+        if (!queue.offer(message)) {
+            dropped.incrementAndGet();
+            log.warn("Discord queue is full, dropping message");
+        }
+    }
+
+    /**
+     * 메시지 묶음을 호출한 스레드에서 바로 보냅니다. 모두 보냈으면 true 를 반환합니다.
+     */
+    public boolean deliver(List<String> messages) {
+        try {
+            for (String content : coalesce(messages)) {
+                if (!post(content)) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+    }
+
+    private void dispatchLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                List<String> batch = new ArrayList<>();
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + coalesceWindowNanos;
+                long remaining;
+                String next;
+                while ((remaining = deadline - System.nanoTime()) > 0
+                        && (next = queue.poll(remaining, TimeUnit.NANOSECONDS)) != null) {
+                    batch.add(next);
+                }
+                // 발송이 밀리는 동안 쌓인 메시지도 함께 보냄
+                queue.drainTo(batch);
+
+                int skipped = dropped.getAndSet(0);
+                if (skipped > 0) {
+                    batch.add(String.format("⚠️ 알림 %d건이 대기열 초과로 생략되었습니다.", skipped));
+                }
+                for (String content : coalesce(batch)) {
+                    post(content);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.error("Error dispatching discord messages: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 메시지를 순서대로 이어 붙이되 웹훅 한 건의 길이 제한을 넘지 않게 나눕니다.
+     */
+    static List<String> coalesce(List<String> messages) {
+        List<String> payloads = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (String message : messages) {
+            String text = truncate(message);
+            if (!current.isEmpty() && current.length() + SEPARATOR.length() + text.length() > MAX_CONTENT_LENGTH) {
+                payloads.add(current.toString());
+                current.setLength(0);
+            }
+            if (!current.isEmpty()) {
+                current.append(SEPARATOR);
+            }
+            current.append(text);
+        }
+        if (!current.isEmpty()) {
+            payloads.add(current.toString());
+        }
+        return payloads;
+    }
+
+    private boolean post(String content) throws InterruptedException {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
 
         Map<String, String> payload = new HashMap<>();
-        payload.put("content", message);
+        payload.put("content", content);
 
         HttpEntity<Map<String, String>> entity = new HttpEntity<>(payload, headers);
 
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            try {
+                ResponseEntity<String> response = restTemplate.postForEntity(apiUrl, entity, String.class);
+                log.info("Message sent to discord: " + content);
+                // 남은 호출이 없으면 다음 발송 전에 버킷이 초기화될 때까지 기다림
+                HttpHeaders responseHeaders = response.getHeaders();
+                if ("0".equals(responseHeaders.getFirst("X-RateLimit-Remaining"))) {
+                    Thread.sleep(seconds(responseHeaders.getFirst("X-RateLimit-Reset-After"), 0L));
+                }
+                return true;
+            } catch (HttpClientErrorException.TooManyRequests e) {
+                long wait = retryAfterMillis(e.getResponseHeaders());
+                log.warn("Discord rate limited (attempt {}), retrying in {}ms", attempt, wait);
+                Thread.sleep(wait);
+            } catch (RestClientException e) {
+                log.error("Error sending message to discord: " + e.getMessage(), e);
+                return false;
+            }
+        }
+        log.error("Giving up discord message after {} rate limited attempts", MAX_ATTEMPTS);
+        return false;
+    }
+
+    private static long retryAfterMillis(HttpHeaders headers) {
+        if (headers == null) {
+            return DEFAULT_RETRY_AFTER_MILLIS;
+        }
+        String retryAfter = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (retryAfter == null) {
+            retryAfter = headers.getFirst("X-RateLimit-Reset-After");
+        }
+        return seconds(retryAfter, DEFAULT_RETRY_AFTER_MILLIS);
+    }
+
+    /**
+     * Discord 는 소수점 초 단위로 대기 시간을 알려줍니다.
+     */
+    private static long seconds(String value, long defaultMillis) {
+        if (value == null) {
+            return defaultMillis;
+        }
         try {
-            restTemplate.postForEntity(apiUrl, entity, String.class);
-            log.info("Message sending initiated to discord: " + message);
-        } catch (Exception e) {
-            log.error("Error sending message to discord: " + e.getMessage(), e);
+            return Math.max(0L, (long) Math.ceil(Double.parseDouble(value.trim()) * 1000));
+        } catch (NumberFormatException e) {
+            return defaultMillis;
+        }
+    }
+
+    private static String truncate(String message) {
+        if (message.length() <= MAX_CONTENT_LENGTH) {
+            return message;
         }
+        return message.substring(0, MAX_CONTENT_LENGTH - 3) + "...";
     }
 }
@@ -0,0 +1,62 @@
+package park.bumsiku.utils.integration;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * 외부 HTTP 커넥션 풀 사용량을 호스트별 게이지로 노출합니다.
+ * 풀은 호스트에 처음 연결할 때 생기므로 주기적으로 새 호스트를 찾아 게이지를 등록합니다.
+ */
+@Component
+public class OutboundHttpPoolMetrics {
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final MeterRegistry meterRegistry;
+    private final Set<String> registeredHosts = ConcurrentHashMap.newKeySet();
+
+    public OutboundHttpPoolMetrics(PoolingHttpClientConnectionManager connectionManager, MeterRegistry meterRegistry) {
+        this.connectionManager = connectionManager;
+        this.meterRegistry = meterRegistry;
+        registerTotal();
+    }
+
+    @Scheduled(fixedDelayString = "${outbound.http.metrics-refresh-millis:15000}")
+    public void registerRoutes() {
+        for (HttpRoute route : connectionManager.getRoutes()) {
+            String host = route.getTargetHost().toHostString();
+            if (registeredHosts.add(host)) {
+                register(Tags.of("host", host), manager -> manager.getStats(route));
+            }
+        }
+    }
+
+    private void registerTotal() {
+        register(Tags.of("host", "all"), PoolingHttpClientConnectionManager::getTotalStats);
+    }
+
+    private void register(Tags tags, Function<PoolingHttpClientConnectionManager, PoolStats> stats) {
+        gauge("outbound.http.pool.leased", "Connections in use", tags, manager -> stats.apply(manager).getLeased());
+        gauge("outbound.http.pool.available", "Idle connections kept alive", tags, manager -> stats.apply(manager).getAvailable());
+        gauge("outbound.http.pool.pending", "Requests waiting for a connection", tags, manager -> stats.apply(manager).getPending());
+        gauge("outbound.http.pool.max", "Maximum connections", tags, manager -> stats.apply(manager).getMax());
+    }
+
+    private void gauge(String name, String description, Tags tags,
+                       ToIntFunction<PoolingHttpClientConnectionManager> value) {
+        Gauge.builder(name, connectionManager, manager -> value.applyAsInt(manager))
+                .description(description)
+                .tags(tags)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,351 @@
+package park.bumsiku.utils.llm;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.prompt.ChatOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import park.bumsiku.utils.concurrent.ThreadFactories;
+import park.bumsiku.utils.exceptions.TooManyRequestsException;
+import park.bumsiku.utils.exceptions.UpstreamTimeoutException;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 모델 호출을 감싸는 보호 계층.
+ * <p>
+ * 동시에 나가는 호출 수를 세마포어(bulkhead)로 제한하고, 자리가 나지 않으면 기다리지 않고 429 로 거절합니다.
+ * 이미 받아들인 요청의 후속 호출(긴 글의 조각 요약 등)은 허가를 정해진 시간만큼 기다릴 수 있습니다.
+ * 호출마다 마감 시간을 두어 넘기면 504 로 끝내고 실행 중인 호출을 인터럽트합니다. 허가는 실제 호출이 끝날 때 반환되므로
+ * 응답이 늦는 모델 때문에 동시 호출이 한도를 넘지 않으며, 멈추지 않는 호출은 OpenAI 클라이언트의 읽기 타임아웃으로 끝납니다.
+ * <p>
+ * 대체 모델이 설정되어 있으면 최근 호출 지연의 p95 만큼 기다려도 응답이 없을 때 대체 모델로 두 번째 요청을 보내고
+ * 먼저 성공한 응답을 사용합니다(hedging). 헤지 요청도 허가를 하나 받아야 보냅니다. 결과는 {@code llm.calls} 의 outcome 태그로 집계합니다.
+ */
+@Slf4j
+@Component
+public class LlmCallGuard {
+
+    private static final int LATENCY_WINDOW = 100;
+    private static final int MIN_SAMPLES = 20;
+
+    private final Semaphore bulkhead;
+    private final long maxWaitMillis;
+    private final Duration timeout;
+    private final ChatOptions fallbackOptions;
+    private final long minHedgeDelayNanos;
+    private final ThreadPoolExecutor executor;
+    private final long[] latencies = new long[LATENCY_WINDOW];
+    private int latencyCount;
+    private int latencyIndex;
+
+    private final Map<String, Counter> outcomes;
+    private final Timer primaryLatency;
+
+    public LlmCallGuard(
+            MeterRegistry meterRegistry,
+            @Value("${llm.bulkhead.max-concurrent:8}") int maxConcurrent,
+            @Value("${llm.bulkhead.max-wait-millis:0}") long maxWaitMillis,
+            @Value("${llm.timeout-millis:30000}") long timeoutMillis,
+            @Value("${llm.hedge.fallback-model:}") String fallbackModel,
+            @Value("${llm.hedge.min-delay-millis:1000}") long minHedgeDelayMillis,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.bulkhead = new Semaphore(maxConcurrent);
+        this.maxWaitMillis = maxWaitMillis;
+        this.timeout = Duration.ofMillis(timeoutMillis);
+        this.fallbackOptions = fallbackModel == null || fallbackModel.isBlank()
+                ? null
+                : ChatOptions.builder().model(fallbackModel).build();
+        this.minHedgeDelayNanos = TimeUnit.MILLISECONDS.toNanos(minHedgeDelayMillis);
+        // 실행 중인 호출은 모두 허가를 쥐고 있으므로 한도만큼이면 되지만,
+        // 허가를 반환한 스레드가 풀로 돌아오기 전의 틈에 새 호출이 거절되지 않도록 여유를 둠
+        this.executor = new ThreadPoolExecutor(
+                0, maxConcurrent * 2,
+                60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                ThreadFactories.named("llm-call-", virtualThreads));
+
+        this.outcomes = Stream.of("success", "hedge_won", "primary_won_after_hedge", "timeout", "rejected", "error")
+                .collect(Collectors.toMap(Function.identity(), outcome -> Counter.builder("llm.calls")
+                        .description("Model calls by resilience outcome")
+                        .tag("outcome", outcome)
+                        .register(meterRegistry)));
+        this.primaryLatency = Timer.builder("llm.call.latency")
+                .description("Latency of successful primary model calls")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 블로킹 모델 호출을 실행합니다. request 는 옵션 덮어쓰기를 받으며, 본 요청에는 null, 헤지 요청에는 대체 모델 옵션이 전달됩니다.
+     */
+    public <T> T call(Function<ChatOptions, T> request) {
+        return call(request, maxWaitMillis);
+    }
+
+    /**
+     * 허가를 최대 maxWaitMillis 동안 기다리는 {@link #call(Function)} 입니다.
+     */
+    public <T> T call(Function<ChatOptions, T> request, long maxWaitMillis) {
+        acquire(maxWaitMillis);
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Attempt<T> primary = start(request, null);
+        if (primary == null) {
+            throw reject();
+        }
+
+        try {
+            if (fallbackOptions == null) {
+                T value = await(primary.result, deadline);
+                increment("success");
+                return value;
+            }
+            try {
+                T value = primary.result.get(Math.min(hedgeDelayNanos(), remaining(deadline)), TimeUnit.NANOSECONDS);
+                increment("success");
+                return value;
+            } catch (TimeoutException slow) {
+                return hedge(request, primary, deadline);
+            } catch (ExecutionException e) {
+                increment("error");
+                throw unwrap(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("모델 호출이 중단되었습니다", e);
+            }
+        } finally {
+            // 마감을 넘겼거나 헤지 요청이 이긴 경우 남은 호출을 중단
+            primary.cancel();
+        }
+    }
+
+    /**
+     * 스트리밍 호출에 bulkhead 와 마감 시간을 적용합니다. 스트림은 헤지하지 않으며,
+     * 마감 시간은 다음 토큰을 기다리는 최대 시간으로 적용됩니다.
+     */
+    public <T> Flux<T> stream(Supplier<Flux<T>> request) {
+        return stream(request, maxWaitMillis);
+    }
+
+    /**
+     * 허가를 최대 maxWaitMillis 동안 기다리는 {@link #stream(Supplier)} 입니다.
+     */
+    public <T> Flux<T> stream(Supplier<Flux<T>> request, long maxWaitMillis) {
+        return Flux.defer(() -> {
+            acquire(maxWaitMillis);
+            return request.get()
+                    .timeout(timeout)
+                    .doFinally(signal -> bulkhead.release());
+        }).doOnComplete(() -> increment("success"))
+                .onErrorMap(TimeoutException.class, e -> {
+                    increment("timeout");
+                    return timedOut();
+                })
+                .doOnError(e -> {
+                    if (!(e instanceof UpstreamTimeoutException) && !(e instanceof TooManyRequestsException)) {
+                        increment("error");
+                    }
+                });
+    }
+
+    private <T> T hedge(Function<ChatOptions, T> request, Attempt<T> primary, long deadline) {
+        // 헤지 요청도 허가를 받아야 하므로 동시 호출 수는 한도를 넘지 않음
+        Attempt<T> hedged = bulkhead.tryAcquire() ? start(request, fallbackOptions) : null;
+        if (hedged == null) {
+            // 허가나 여유 스레드가 없으면 헤지 없이 본 요청만 기다림
+            T value = await(primary.result, deadline);
+            increment("success");
+            return value;
+        }
+        log.debug("Hedging slow model call with {}", fallbackOptions.getModel());
+
+        CompletableFuture<T> winner = new CompletableFuture<>();
+        AtomicReference<String> winnerOutcome = new AtomicReference<>();
+        AtomicInteger failures = new AtomicInteger();
+        primary.result.whenComplete((value, error) -> settle(winner, winnerOutcome, failures,
+                value, error, "primary_won_after_hedge"));
+        hedged.result.whenComplete((value, error) -> settle(winner, winnerOutcome, failures,
+                value, error, "hedge_won"));
+
+        try {
+            T value = await(winner, deadline);
+            increment(winnerOutcome.get());
+            return value;
+        } finally {
+            hedged.cancel();
+        }
+    }
+
+    /**
+     * 이미 받은 허가로 호출을 시작합니다. 여유 스레드가 없으면 허가를 돌려주고 null 을 반환합니다.
+     */
+    private <T> Attempt<T> start(Function<ChatOptions, T> request, ChatOptions options) {
+        Attempt<T> attempt = new Attempt<>(request, options);
+        try {
+            executor.execute(attempt);
+            return attempt;
+        } catch (RejectedExecutionException e) {
+            bulkhead.release();
+            return null;
+        }
+    }
+
+    private static <T> void settle(CompletableFuture<T> winner, AtomicReference<String> winnerOutcome,
+                                   AtomicInteger failures, T value, Throwable error, String outcome) {
+        if (error == null) {
+            if (winnerOutcome.compareAndSet(null, outcome)) {
+                winner.complete(value);
+            }
+        } else if (failures.incrementAndGet() == 2) {
+            // 두 요청이 모두 실패해야 실패로 봄
+            winner.completeExceptionally(error);
+        }
+    }
+
+    private <T> T await(CompletableFuture<T> future, long deadline) {
+        try {
+            return future.get(remaining(deadline), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            increment("timeout");
+            throw timedOut();
+        } catch (ExecutionException e) {
+            increment("error");
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("모델 호출이 중단되었습니다", e);
+        }
+    }
+
+    private void acquire(long maxWaitMillis) {
+        boolean acquired;
+        try {
+            acquired = bulkhead.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            throw reject();
+        }
+    }
+
+    private TooManyRequestsException reject() {
+        increment("rejected");
+        return new TooManyRequestsException("요약 요청이 많습니다. 잠시 후 다시 시도해주세요");
+    }
+
+    private UpstreamTimeoutException timedOut() {
+        return new UpstreamTimeoutException("모델 응답이 " + timeout.toMillis() + "ms 안에 오지 않았습니다");
+    }
+
+    private synchronized void recordLatency(long nanos) {
+        primaryLatency.record(nanos, TimeUnit.NANOSECONDS);
+        latencies[latencyIndex] = nanos;
+        latencyIndex = (latencyIndex + 1) % LATENCY_WINDOW;
+        latencyCount = Math.min(latencyCount + 1, LATENCY_WINDOW);
+    }
+
+    /**
+     * 최근 본 요청 지연의 p95. 표본이 적을 때는 마감 시간의 절반을 기다립니다.
+     */
+    synchronized long hedgeDelayNanos() {
+        if (latencyCount < MIN_SAMPLES) {
+            return Math.max(minHedgeDelayNanos, timeout.toNanos() / 2);
+        }
+        long[] sorted = Arrays.copyOf(latencies, latencyCount);
+        Arrays.sort(sorted);
+        long p95 = sorted[(int) Math.ceil(sorted.length * 0.95) - 1];
+        return Math.max(minHedgeDelayNanos, p95);
+    }
+
+    private void increment(String outcome) {
+        outcomes.get(outcome).increment();
+    }
+
+    private static long remaining(long deadline) {
+        return Math.max(0L, deadline - System.nanoTime());
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        return e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(e.getCause());
+    }
+
+    /**
+     * 실행 중인 호출 하나. 허가는 취소 여부와 관계없이 호출이 실제로 끝날 때 반환합니다.
+     * 취소하면 실행 중인 스레드를 인터럽트하며, 인터럽트로 멈추지 않는 호출도 HTTP 읽기 타임아웃으로 끝납니다.
+     */
+    private final class Attempt<T> implements Runnable {
+
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final Function<ChatOptions, T> request;
+        private final ChatOptions options;
+        private Thread worker;
+        private boolean cancelled;
+
+        private Attempt(Function<ChatOptions, T> request, ChatOptions options) {
+            this.request = request;
+            this.options = options;
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                if (cancelled) {
+                    bulkhead.release();
+                    result.cancel(false);
+                    return;
+                }
+                worker = Thread.currentThread();
+            }
+            long started = System.nanoTime();
+            try {
+                T value = request.apply(options);
+                if (options == null) {
+                    recordLatency(System.nanoTime() - started);
+                }
+                result.complete(value);
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            } finally {
+                synchronized (this) {
+                    worker = null;
+                    // 끝난 뒤에 도착한 인터럽트가 풀의 다음 작업으로 넘어가지 않게 지움
+                    Thread.interrupted();
+                }
+                bulkhead.release();
+            }
+        }
+
+        private synchronized void cancel() {
+            cancelled = true;
+            if (worker != null) {
+                worker.interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package park.bumsiku.utils.llm;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 모델 호출마다 토큰 사용량, 첫 토큰까지 걸린 시간, 전체 지연과 비용을 모델 태그로 기록합니다.
+ * <p>
+ * 토큰 수는 응답 메타데이터의 usage 를 사용하며, 스트림은 마지막 청크에 실린 usage 를 사용합니다.
+ * 첫 토큰 시간은 토큰이 나눠 오는 스트리밍 호출에서만 기록합니다.
+ * 비용은 {@code llm.pricing} 의 100만 토큰당 단가(USD)로 계산하고, 최근 {@code llm.usage.window-minutes} 분 동안의
+ * 호출 수·토큰·비용을 분 단위 버킷으로 보관해 {@link #snapshot()} 으로 제공합니다.
+ */
+@Component
+public class LlmUsageRecorder {
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+    private static final Duration PERCENTILE_EXPIRY = Duration.ofMinutes(10);
+
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final int windowMinutes;
+    private final Map<String, double[]> pricing;
+    private final Map<String, Bucket[]> windows = new TreeMap<>();
+
+    public LlmUsageRecorder(
+            MeterRegistry meterRegistry,
+            Clock clock,
+            @Value("${llm.pricing:gpt-4.1-nano=0.10/0.40,gpt-4.1-mini=0.40/1.60}") String pricing,
+            @Value("${llm.usage.window-minutes:60}") int windowMinutes) {
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.windowMinutes = windowMinutes;
+        this.pricing = parsePricing(pricing);
+    }
+
+    /**
+     * 블로킹 호출의 응답을 기록하고 응답 텍스트를 반환합니다.
+     */
+    public String record(String model, ChatResponse response, long startedNanos) {
+        long elapsed = System.nanoTime() - startedNanos;
+        latency(model, "call").record(elapsed, TimeUnit.NANOSECONDS);
+        finish(model, usage(response));
+        return text(response);
+    }
+
+    /**
+     * 스트리밍 응답을 토큰 텍스트 스트림으로 바꾸면서 첫 토큰 시간과 완료 시점의 사용량을 기록합니다.
+     */
+    public Flux<String> record(String model, Flux<ChatResponse> responses) {
+        return Flux.defer(() -> {
+            long started = System.nanoTime();
+            AtomicBoolean first = new AtomicBoolean(true);
+            AtomicReference<Usage> usage = new AtomicReference<>();
+            return responses
+                    .<String>handle((response, sink) -> {
+                        Usage chunkUsage = usage(response);
+                        if (chunkUsage != null) {
+                            usage.set(chunkUsage);
+                        }
+                        String text = text(response);
+                        if (text == null || text.isEmpty()) {
+                            return;
+                        }
+                        if (first.compareAndSet(true, false)) {
+                            timeToFirstToken(model).record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                        }
+                        sink.next(text);
+                    })
+                    .doOnComplete(() -> {
+                        latency(model, "stream").record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                        finish(model, usage.get());
+                    });
+        });
+    }
+
+    /**
+     * 모델별 최근 구간의 호출 수, 토큰, 비용과 지연 백분위(밀리초).
+     */
+    public Map<String, Object> snapshot() {
+        long now = currentMinute();
+        Map<String, Object> models = new LinkedHashMap<>();
+        double totalCost = 0;
+        synchronized (windows) {
+            for (Map.Entry<String, Bucket[]> entry : windows.entrySet()) {
+                Bucket sum = new Bucket();
+                for (Bucket bucket : entry.getValue()) {
+                    if (bucket != null && now - bucket.minute < windowMinutes) {
+                        sum.add(bucket);
+                    }
+                }
+                String model = entry.getKey();
+                Map<String, Object> stats = new LinkedHashMap<>();
+                stats.put("calls", sum.calls);
+                stats.put("promptTokens", sum.promptTokens);
+                stats.put("completionTokens", sum.completionTokens);
+                stats.put("costUsd", sum.cost);
+                stats.put("latencyMillis", percentiles(meterRegistry.find("llm.latency").tag("model", model)
+                        .tag("mode", "call").timer()));
+                stats.put("streamLatencyMillis", percentiles(meterRegistry.find("llm.latency").tag("model", model)
+                        .tag("mode", "stream").timer()));
+                stats.put("timeToFirstTokenMillis", percentiles(meterRegistry.find("llm.ttft").tag("model", model).timer()));
+                models.put(model, stats);
+                totalCost += sum.cost;
+            }
+        }
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("windowMinutes", windowMinutes);
+        snapshot.put("totalCostUsd", totalCost);
+        snapshot.put("models", models);
+        return snapshot;
+    }
+
+    private void finish(String model, Usage usage) {
+        long promptTokens = usage == null || usage.getPromptTokens() == null ? 0 : usage.getPromptTokens();
+        long completionTokens = usage == null || usage.getCompletionTokens() == null ? 0 : usage.getCompletionTokens();
+        double[] price = pricing.getOrDefault(model, new double[]{0, 0});
+        double cost = (promptTokens * price[0] + completionTokens * price[1]) / 1_000_000d;
+
+        tokens(model, "prompt").record(promptTokens);
+        tokens(model, "completion").record(completionTokens);
+        Counter.builder("llm.cost")
+                .description("Estimated model cost")
+                .baseUnit("usd")
+                .tag("model", model)
+                .register(meterRegistry)
+                .increment(cost);
+
+        long minute = currentMinute();
+        synchronized (windows) {
+            Bucket[] buckets = windows.computeIfAbsent(model, key -> new Bucket[windowMinutes]);
+            int index = (int) (minute % windowMinutes);
+            Bucket bucket = buckets[index];
+            if (bucket == null || bucket.minute != minute) {
+                bucket = new Bucket();
+                bucket.minute = minute;
+                buckets[index] = bucket;
+            }
+            bucket.calls++;
+            bucket.promptTokens += promptTokens;
+            bucket.completionTokens += completionTokens;
+            bucket.cost += cost;
+        }
+    }
+
+    private DistributionSummary tokens(String model, String type) {
+        return DistributionSummary.builder("llm.tokens." + type)
+                .description("Tokens per model call")
+                .baseUnit("tokens")
+                .tag("model", model)
+                .publishPercentiles(PERCENTILES)
+                .distributionStatisticExpiry(PERCENTILE_EXPIRY)
+                .register(meterRegistry);
+    }
+
+    private Timer latency(String model, String mode) {
+        return Timer.builder("llm.latency")
+                .description("Total model call latency")
+                .tag("model", model)
+                .tag("mode", mode)
+                .publishPercentiles(PERCENTILES)
+                .distributionStatisticExpiry(PERCENTILE_EXPIRY)
+                .register(meterRegistry);
+    }
+
+    private Timer timeToFirstToken(String model) {
+        return Timer.builder("llm.ttft")
+                .description("Time until the first streamed token")
+                .tag("model", model)
+                .publishPercentiles(PERCENTILES)
+                .distributionStatisticExpiry(PERCENTILE_EXPIRY)
+                .register(meterRegistry);
+    }
+
+    private static Map<String, Double> percentiles(Timer timer) {
+        Map<String, Double> values = new LinkedHashMap<>();
+        if (timer == null) {
+            return values;
+        }
+        for (ValueAtPercentile value : timer.takeSnapshot().percentileValues()) {
+            values.put("p" + Math.round(value.percentile() * 100), value.value(TimeUnit.MILLISECONDS));
+        }
+        return values;
+    }
+
+    private long currentMinute() {
+        return TimeUnit.MILLISECONDS.toMinutes(clock.millis());
+    }
+
+    private static Usage usage(ChatResponse response) {
+        if (response == null || response.getMetadata() == null) {
+            return null;
+        }
+        Usage usage = response.getMetadata().getUsage();
+        return usage == null || usage.getTotalTokens() == null || usage.getTotalTokens() == 0 ? null : usage;
+    }
+
+    private static String text(ChatResponse response) {
+        if (response == null || response.getResult() == null || response.getResult().getOutput() == null) {
+            return null;
+        }
+        return response.getResult().getOutput().getText();
+    }
+
+    /**
+     * {@code model=prompt/completion} 쌍을 쉼표로 나열한 단가 설정을 읽습니다.
+     */
+    static Map<String, double[]> parsePricing(String pricing) {
+        Map<String, double[]> prices = new LinkedHashMap<>();
+        if (pricing == null || pricing.isBlank()) {
+            return prices;
+        }
+        for (String entry : pricing.split(",")) {
+            String[] modelAndPrice = entry.trim().split("=");
+            String[] price = modelAndPrice.length == 2 ? modelAndPrice[1].split("/") : new String[0];
+            if (price.length != 2) {
+                throw new IllegalArgumentException("잘못된 llm.pricing 항목: " + entry);
+            }
+            prices.put(modelAndPrice[0].trim(), Arrays.stream(price).mapToDouble(p -> Double.parseDouble(p.trim())).toArray());
+        }
+        return prices;
+    }
+
+    private static final class Bucket {
+        private long minute;
+        private long calls;
+        private long promptTokens;
+        private long completionTokens;
+        private double cost;
+
+        private void add(Bucket other) {
+            calls += other.calls;
+            promptTokens += other.promptTokens;
+            completionTokens += other.completionTokens;
+            cost += other.cost;
+        }
+    }
+}
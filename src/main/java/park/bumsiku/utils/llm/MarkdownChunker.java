@@ -0,0 +1,111 @@
+package park.bumsiku.utils.llm;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 긴 Markdown 원문을 요약용 조각으로 나눕니다.
+ * 제목(#) 경계에서 섹션을 나눈 뒤 토큰 예산 안에서 인접 섹션을 묶고,
+ * 예산을 넘는 섹션은 문단, 그래도 넘으면 글자 수 기준으로 자릅니다.
+ * 제목은 # 1~6개 뒤에 공백이 오는 줄만 인정하며({@code #include}, {@code #1} 은 본문), 코드 블록 안의 # 은 제목으로 보지 않습니다.
+ */
+@Component
+public class MarkdownChunker {
+
+    private static final Pattern HEADING = Pattern.compile("#{1,6}(?:[ \t]|$)");
+
+    private final int singleShotTokens;
+    private final int chunkTokens;
+
+    public MarkdownChunker(
+            @Value("${llm.summary.single-shot-tokens:6000}") int singleShotTokens,
+            @Value("${llm.summary.chunk-tokens:3000}") int chunkTokens) {
+        this.singleShotTokens = singleShotTokens;
+        this.chunkTokens = chunkTokens;
+    }
+
+    /**
+     * 토큰 수 근사치. 영문/기호는 약 4글자당 1토큰, 한글 등 비 ASCII 문자는 글자당 1토큰으로 셉니다.
+     */
+    public static int estimateTokens(String text) {
+        int ascii = 0;
+        int other = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) < 0x80) {
+                ascii++;
+            } else {
+                other++;
+            }
+        }
+        return (ascii + 3) / 4 + other;
+    }
+
+    public boolean needsChunking(String text) {
+        return estimateTokens(text) > singleShotTokens;
+    }
+
+    public List<String> split(String text) {
+        List<String> chunks = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        int currentTokens = 0;
+        for (String section : sections(text)) {
+            for (String piece : fit(section)) {
+                int tokens = estimateTokens(piece);
+                if (currentTokens > 0 && currentTokens + tokens > chunkTokens) {
+                    chunks.add(current.toString().strip());
+                    current.setLength(0);
+                    currentTokens = 0;
+                }
+                current.append(piece);
+                currentTokens += tokens;
+            }
+        }
+        if (!current.toString().isBlank()) {
+            chunks.add(current.toString().strip());
+        }
+        return chunks;
+    }
+
+    private static List<String> sections(String text) {
+        List<String> sections = new ArrayList<>();
+        StringBuilder section = new StringBuilder();
+        boolean inFence = false;
+        for (String line : text.split("\n", -1)) {
+            String trimmed = line.stripLeading();
+            if (trimmed.startsWith("```") || trimmed.startsWith("~~~")) {
+                inFence = !inFence;
+            }
+            if (!inFence && HEADING.matcher(trimmed).lookingAt() && !section.isEmpty()) {
+                sections.add(section.toString());
+                section.setLength(0);
+            }
+            section.append(line).append('\n');
+        }
+        if (!section.isEmpty()) {
+            sections.add(section.toString());
+        }
+        return sections;
+    }
+
+    private List<String> fit(String section) {
+        if (estimateTokens(section) <= chunkTokens) {
+            return List.of(section);
+        }
+        List<String> pieces = new ArrayList<>();
+        for (String paragraph : section.split("(?<=\n\n)")) {
+            if (estimateTokens(paragraph) <= chunkTokens) {
+                pieces.add(paragraph);
+                continue;
+            }
+            // 비 ASCII 만으로 이루어져도 예산을 넘지 않는 길이로 자름
+            for (int from = 0; from < paragraph.length(); from += chunkTokens) {
+                pieces.add(paragraph.substring(from, Math.min(from + chunkTokens, paragraph.length())));
+            }
+        }
+        return pieces;
+    }
+}
@@ -0,0 +1,26 @@
+package park.bumsiku.utils.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+import park.bumsiku.utils.llm.LlmUsageRecorder;
+
+import java.util.Map;
+
+/**
+ * {@code /actuator/llm}: 모델별 최근 호출 비용과 지연 백분위.
+ * 노출 여부는 management.endpoints.web.exposure.include 설정을 따릅니다.
+ */
+@Component
+@Endpoint(id = "llm")
+@RequiredArgsConstructor
+public class LlmUsageEndpoint {
+
+    private final LlmUsageRecorder llmUsageRecorder;
+
+    @ReadOperation
+    public Map<String, Object> usage() {
+        return llmUsageRecorder.snapshot();
+    }
+}
@@ -0,0 +1,30 @@
+package park.bumsiku.utils.paging;
+
+/**
+ * 목록 응답의 totalElements 계산 방식.
+ */
+public enum CountMode {
+    /**
+     * 페이지 쿼리에서 정확한 건수를 함께 계산
+     */
+    EXACT,
+    /**
+     * 최근에 계산한 건수를 그대로 사용하고, 없을 때만 계산
+     */
+    ESTIMATE,
+    /**
+     * 건수를 계산하지 않음
+     */
+    NONE;
+
+    public static CountMode fromParameter(String parameter) {
+        if (parameter == null || parameter.trim().isEmpty()) {
+            return EXACT;
+        }
+        try {
+            return CountMode.valueOf(parameter.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return EXACT; // 기본값
+        }
+    }
+}
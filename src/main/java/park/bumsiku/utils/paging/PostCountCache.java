@@ -0,0 +1,62 @@
+package park.bumsiku.utils.paging;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import park.bumsiku.domain.event.PostChangedEvent;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 목록별(전체, 태그) 게시물 수를 잠시 보관해 count=estimate 요청이 count 쿼리를 건너뛰게 합니다.
+ * <p>
+ * 정확한 건수를 계산할 때마다 갱신되고 {@code post.count.estimate-ttl-seconds} 가 지나면 다시 계산합니다.
+ * 게시물이 바뀌면 모두 비웁니다.
+ */
+@Component
+public class PostCountCache {
+
+    private static final String ALL = "";
+
+    private final Clock clock;
+    private final Duration ttl;
+    private final Map<String, Entry> counts = new ConcurrentHashMap<>();
+
+    public PostCountCache(
+            Clock clock,
+            @Value("${post.count.estimate-ttl-seconds:60}") long ttlSeconds) {
+        this.clock = clock;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    /**
+     * 보관 중인 건수. 없거나 만료되었으면 null 을 반환합니다. tagName 이 null 이면 전체 목록입니다.
+     */
+    public Integer get(String tagName) {
+        Entry entry = counts.get(key(tagName));
+        if (entry == null || !clock.instant().isBefore(entry.expiresAt())) {
+            return null;
+        }
+        return entry.count();
+    }
+
+    public void put(String tagName, int count) {
+        counts.put(key(tagName), new Entry(count, clock.instant().plus(ttl)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        counts.clear();
+    }
+
+    private static String key(String tagName) {
+        return tagName == null ? ALL : tagName;
+    }
+
+    private record Entry(int count, Instant expiresAt) {
+    }
+}
@@ -24,4 +24,6 @@ public interface ArgumentValidator {
     void validatePostIdAndPostRequest(int postId, UpdatePostRequest request);
 
     void validateImage(MultipartFile image);
+
+    void validateSummary(String summary);
 }
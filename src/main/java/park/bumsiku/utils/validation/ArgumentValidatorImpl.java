@@ -1,11 +1,16 @@
 package park.bumsiku.utils.validation;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 import park.bumsiku.domain.dto.request.CommentRequest;
 import park.bumsiku.domain.dto.request.CreatePostRequest;
 import park.bumsiku.domain.dto.request.UpdatePostRequest;
+import park.bumsiku.utils.image.ImageDimensions;
+import park.bumsiku.utils.image.ImageHeaderReader;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
@@ -18,6 +23,13 @@ public class ArgumentValidatorImpl implements ArgumentValidator {
 
     private static final long MAX_IMAGE_SIZE = 20 * 1024 * 1024; // 20MB
 
+    // 디코더(ImageDecoder)와 같은 픽셀 한도를 사용
+    private final long maxImagePixels;
+
+    public ArgumentValidatorImpl(@Value("${image.decode.max-pixels:40000000}") long maxImagePixels) {
+        this.maxImagePixels = maxImagePixels;
+    }
+
     private void validateTitle(String title) {
         if (title == null || title.isBlank()) {
             throw new IllegalArgumentException("제목을 입력해주세요");
@@ -36,7 +48,8 @@ public class ArgumentValidatorImpl implements ArgumentValidator {
         }
     }
 
-    private void validateSummary(String summary) {
+    @Override
+    public void validateSummary(String summary) {
         if (summary == null || summary.isBlank()) {
             throw new IllegalArgumentException("요약을 입력해주세요");
         }
@@ -168,6 +181,20 @@ public class ArgumentValidatorImpl implements ArgumentValidator {
         if (extension == null || !ALLOWED_IMAGE_EXTENSIONS.contains(extension.toLowerCase())) {
             throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다. 지원 형식: jpg, jpeg, png, gif, webp");
         }
+        validateImageDimensions(image);
+    }
+
+    private void validateImageDimensions(MultipartFile image) {
+        // 헤더만 읽어 해상도를 확인하며, 크기를 알 수 없는 이미지는 픽셀 한도를 적용할 수 없으므로 거절
+        try (InputStream in = image.getInputStream()) {
+            ImageDimensions dimensions = ImageHeaderReader.read(in)
+                    .orElseThrow(() -> new IllegalArgumentException("이미지 크기를 확인할 수 없습니다"));
+            if (dimensions.pixels() > maxImagePixels) {
+                throw new IllegalArgumentException("이미지 해상도는 " + maxImagePixels + " 화소 이하여야 합니다");
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("이미지 파일을 읽을 수 없습니다");
+        }
     }
 
     private String getFileExtension(String filename) {
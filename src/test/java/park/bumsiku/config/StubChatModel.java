@@ -0,0 +1,89 @@
+package park.bumsiku.config;
+
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.metadata.ChatResponseMetadata;
+import org.springframework.ai.chat.metadata.DefaultUsage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import park.bumsiku.utils.llm.MarkdownChunker;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * OpenAI 대신 쓰는 로컬 ChatModel.
+ * 프롬프트별 응답을 정해두고, 호출 지연과 스트리밍 토큰 간격을 흉내 냅니다.
+ * 토큰은 공백 단위로 나누며 공백은 다음 토큰 앞에 붙여 이어 붙이면 원래 응답이 됩니다.
+ * 토큰 사용량은 추정치로 채우고, 스트림에서는 OpenAI 처럼 내용 없는 마지막 청크에 싣습니다.
+ */
+public class StubChatModel implements ChatModel {
+
+    private final Function<Prompt, String> responder;
+    private final Duration latency;
+    private final AtomicInteger calls = new AtomicInteger();
+
+    public StubChatModel(String response) {
+        this(prompt -> response, Duration.ZERO);
+    }
+
+    public StubChatModel(Function<Prompt, String> responder, Duration latency) {
+        this.responder = responder;
+        this.latency = latency;
+    }
+
+    public int calls() {
+        return calls.get();
+    }
+
+    @Override
+    public ChatResponse call(Prompt prompt) {
+        calls.incrementAndGet();
+        sleep(latency);
+        String text = responder.apply(prompt);
+        return new ChatResponse(List.of(new Generation(new AssistantMessage(text))), usage(prompt, text));
+    }
+
+    @Override
+    public Flux<ChatResponse> stream(Prompt prompt) {
+        calls.incrementAndGet();
+        String text = responder.apply(prompt);
+        List<String> tokens = tokenize(text);
+        Flux<String> flux = Flux.fromIterable(tokens);
+        if (!latency.isZero()) {
+            flux = flux.delayElements(latency.dividedBy(Math.max(tokens.size(), 1)));
+        }
+        return flux.map(StubChatModel::response)
+                .concatWith(Flux.just(new ChatResponse(List.of(), usage(prompt, text))));
+    }
+
+    private static List<String> tokenize(String text) {
+        return List.of(text.split("(?=\\s)"));
+    }
+
+    public static ChatResponse response(String text) {
+        return new ChatResponse(List.of(new Generation(new AssistantMessage(text))));
+    }
+
+    private static ChatResponseMetadata usage(Prompt prompt, String text) {
+        return ChatResponseMetadata.builder()
+                .usage(new DefaultUsage(MarkdownChunker.estimateTokens(prompt.getContents()),
+                        MarkdownChunker.estimateTokens(text)))
+                .build();
+    }
+
+    private static void sleep(Duration duration) {
+        if (duration.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
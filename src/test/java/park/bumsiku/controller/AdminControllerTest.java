@@ -15,12 +15,23 @@ import park.bumsiku.config.LoggingConfig;
 import park.bumsiku.config.SecurityConfig;
 import park.bumsiku.domain.dto.request.CreatePostRequest;
 import park.bumsiku.domain.dto.request.UpdatePostRequest;
+import park.bumsiku.domain.dto.response.ImageBatchItemResponse;
+import park.bumsiku.domain.dto.response.ImageBatchResponse;
+import park.bumsiku.domain.dto.response.ImageGcResponse;
+import park.bumsiku.domain.dto.response.ImageJobResponse;
 import park.bumsiku.domain.dto.response.PostResponse;
+import park.bumsiku.domain.dto.response.SummaryBackfillResponse;
 import park.bumsiku.domain.dto.response.UploadImageResponse;
+import park.bumsiku.service.ImageBatchService;
+import park.bumsiku.service.ImageGcService;
+import park.bumsiku.service.ImageJobService;
 import park.bumsiku.service.PrivateService;
+import park.bumsiku.service.SummaryBackfillService;
+import park.bumsiku.utils.exceptions.TooManyRequestsException;
 import park.bumsiku.utils.integration.DiscordWebhookCreator;
 import park.bumsiku.utils.validation.ArgumentValidator;
 
+import java.util.List;
 import java.util.NoSuchElementException;
 
 import static org.hamcrest.Matchers.containsString;
@@ -42,6 +53,18 @@ public class AdminControllerTest {
     @MockitoBean
     private PrivateService privateService;
 
+    @MockitoBean
+    private ImageJobService imageJobService;
+
+    @MockitoBean
+    private ImageBatchService imageBatchService;
+
+    @MockitoBean
+    private ImageGcService imageGcService;
+
+    @MockitoBean
+    private SummaryBackfillService summaryBackfillService;
+
     @MockitoBean
     private ArgumentValidator validator;
 
@@ -90,6 +113,160 @@ public class AdminControllerTest {
                 .andExpect(jsonPath("$.data.url", is("/images/test-image.jpg")));
     }
 
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    public void testAddImageAsync_Success() throws Exception {
+        MockMultipartFile imageFile = new MockMultipartFile(
+                "image",
+                "test-image.jpg",
+                MediaType.IMAGE_JPEG_VALUE,
+                "test image content".getBytes()
+        );
+
+        ImageJobResponse response = ImageJobResponse.builder()
+                .jobId("job-1")
+                .status("PENDING")
+                .build();
+
+        when(imageJobService.submit(any())).thenReturn(response);
+
+        mockMvc.perform(multipart("/admin/images")
+                        .file(imageFile)
+                        .param("async", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success", is(true)))
+                .andExpect(jsonPath("$.data.jobId", is("job-1")))
+                .andExpect(jsonPath("$.data.status", is("PENDING")));
+
+        verify(privateService, never()).uploadImage(any());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    public void testAddImageAsync_QueueSaturated() throws Exception {
+        MockMultipartFile imageFile = new MockMultipartFile(
+                "image",
+                "test-image.jpg",
+                MediaType.IMAGE_JPEG_VALUE,
+                "test image content".getBytes()
+        );
+
+        when(imageJobService.submit(any()))
+                .thenThrow(new TooManyRequestsException("이미지 처리 대기열이 가득 찼습니다"));
+
+        mockMvc.perform(multipart("/admin/images")
+                        .file(imageFile)
+                        .param("async", "true"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.success", is(false)))
+                .andExpect(jsonPath("$.error.code", is(429)));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    public void testAddImages_PartialFailure() throws Exception {
+        MockMultipartFile first = new MockMultipartFile(
+                "images", "a.jpg", MediaType.IMAGE_JPEG_VALUE, "a".getBytes());
+        MockMultipartFile second = new MockMultipartFile(
+                "images", "b.txt", MediaType.TEXT_PLAIN_VALUE, "b".getBytes());
+
+        ImageBatchResponse response = ImageBatchResponse.builder()
+                .results(List.of(
+                        ImageBatchItemResponse.builder()
+                                .index(0).filename("a.jpg").success(true)
+                                .image(UploadImageResponse.builder().url("/images/a.webp").size(10).build())
+                                .build(),
+                        ImageBatchItemResponse.builder()
+                                .index(1).filename("b.txt").success(false)
+                                .error("지원하지 않는 이미지 형식입니다")
+                                .build()))
+                .succeeded(1)
+                .failed(1)
+                .build();
+
+        when(imageBatchService.upload(any())).thenReturn(response);
+
+        mockMvc.perform(multipart("/admin/images/batch")
+                        .file(first)
+                        .file(second))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.succeeded", is(1)))
+                .andExpect(jsonPath("$.data.failed", is(1)))
+                .andExpect(jsonPath("$.data.results[0].image.url", is("/images/a.webp")))
+                .andExpect(jsonPath("$.data.results[1].success", is(false)));
+
+        verify(imageBatchService).upload(argThat(files -> files.size() == 2));
+    }
+
+    @Test
+    public void testAddImages_Unauthorized() throws Exception {
+        MockMultipartFile file = new MockMultipartFile(
+                "images", "a.jpg", MediaType.IMAGE_JPEG_VALUE, "a".getBytes());
+
+        mockMvc.perform(multipart("/admin/images/batch").file(file))
+                .andExpect(status().isUnauthorized());
+
+        verify(imageBatchService, never()).upload(any());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    public void testCollectOrphanImages_DryRun() throws Exception {
+        ImageGcResponse response = ImageGcResponse.builder()
+                .dryRun(true)
+                .scannedPosts(3)
+                .scannedImages(5)
+                .deletedImages(2)
+                .deletedObjects(2)
+                .reclaimedBytes(2048L)
+                .build();
+
+        when(imageGcService.run(true)).thenReturn(response);
+
+        mockMvc.perform(post("/admin/images/gc").param("dryRun", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.dryRun", is(true)))
+                .andExpect(jsonPath("$.data.reclaimedBytes", is(2048)));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    public void testCollectOrphanImages_AlreadyRunning() throws Exception {
+        when(imageGcService.run(false)).thenThrow(new TooManyRequestsException("이미지 정리 작업이 이미 실행 중입니다"));
+
+        mockMvc.perform(post("/admin/images/gc"))
+                .andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    public void testGetImageJob_Success() throws Exception {
+        ImageJobResponse response = ImageJobResponse.builder()
+                .jobId("job-1")
+                .status("COMPLETED")
+                .url("/images/test-image.webp")
+                .size(100L)
+                .build();
+
+        when(imageJobService.getJob("job-1")).thenReturn(response);
+
+        mockMvc.perform(get("/admin/images/jobs/job-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status", is("COMPLETED")))
+                .andExpect(jsonPath("$.data.url", is("/images/test-image.webp")));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    public void testGetImageJob_NotFound() throws Exception {
+        when(imageJobService.getJob("unknown"))
+                .thenThrow(new NoSuchElementException("Image job not found with id: unknown"));
+
+        mockMvc.perform(get("/admin/images/jobs/unknown"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error.code", is(404)));
+    }
+
     @Test
     @WithMockUser(username = "admin", roles = {"ADMIN"})
     public void testAddPost_Success() throws Exception {
@@ -431,4 +608,43 @@ public class AdminControllerTest {
                 .andExpect(jsonPath("$.success", is(false)))
                 .andExpect(jsonPath("$.error.code", is(500)));
     }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    public void testStartSummaryBackfill_Resume() throws Exception {
+        SummaryBackfillResponse response = SummaryBackfillResponse.builder()
+                .jobId(3L)
+                .status("RUNNING")
+                .active(true)
+                .totalPosts(120)
+                .processedPosts(40)
+                .lastPostId(57)
+                .build();
+
+        when(summaryBackfillService.start(true)).thenReturn(response);
+
+        mockMvc.perform(post("/admin/posts/summaries/backfill"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.jobId", is(3)))
+                .andExpect(jsonPath("$.data.processedPosts", is(40)))
+                .andExpect(jsonPath("$.data.lastPostId", is(57)));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    public void testGetSummaryBackfill_NotFound() throws Exception {
+        when(summaryBackfillService.getProgress())
+                .thenThrow(new NoSuchElementException("Summary backfill job not found"));
+
+        mockMvc.perform(get("/admin/posts/summaries/backfill"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void testStartSummaryBackfill_Unauthorized() throws Exception {
+        mockMvc.perform(post("/admin/posts/summaries/backfill"))
+                .andExpect(status().isUnauthorized());
+
+        verify(summaryBackfillService, never()).start(anyBoolean());
+    }
 }
@@ -9,6 +9,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.security.test.context.support.WithMockUser;
 import park.bumsiku.config.ClockConfig;
 import park.bumsiku.config.LoggingConfig;
@@ -16,13 +17,18 @@ import park.bumsiku.config.SecurityConfig;
 import park.bumsiku.domain.dto.request.SummaryGenerationRequest;
 import park.bumsiku.service.LlmService;
 import park.bumsiku.utils.integration.DiscordWebhookCreator;
+import reactor.core.publisher.Flux;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = GptController.class)
@@ -83,4 +89,56 @@ class GenerativeControllerTest {
                 .andExpect(jsonPath("$.error.code", is(400)))
                 .andExpect(jsonPath("$.error.message", notNullValue()));
     }
+
+    @Test
+    @DisplayName("POST /ai/summary/stream - 토큰을 SSE 이벤트로 전송하고 done 으로 종료")
+    void streamSummary_success() throws Exception {
+        // given
+        when(llmService.streamSummary(anyString())).thenReturn(Flux.just("Hello", " world"));
+
+        SummaryGenerationRequest req = SummaryGenerationRequest.builder()
+                .text("테스트 본문입니다")
+                .build();
+
+        // when
+        MvcResult result = mockMvc.perform(post("/ai/summary/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then: tokens keep their leading whitespace because data is JSON-encoded
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(content().string(containsString("event:token\ndata:{\"text\":\"Hello\"}\n")))
+                .andExpect(content().string(containsString("event:token\ndata:{\"text\":\" world\"}\n")))
+                .andExpect(content().string(containsString("event:done")));
+    }
+
+    @Test
+    @DisplayName("POST /ai/summary/stream - 생성 중 실패하면 error 이벤트 전송")
+    void streamSummary_upstreamError_sendsErrorEvent() throws Exception {
+        // given
+        when(llmService.streamSummary(anyString()))
+                .thenReturn(Flux.concat(Flux.just("Hello"), Flux.error(new IllegalStateException("upstream down"))));
+
+        SummaryGenerationRequest req = SummaryGenerationRequest.builder()
+                .text("테스트 본문입니다")
+                .build();
+
+        // when
+        MvcResult result = mockMvc.perform(post("/ai/summary/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(content().string(containsString("event:token\ndata:{\"text\":\"Hello\"}\n")))
+                .andExpect(content().string(containsString("event:error\ndata:{\"message\":")));
+    }
 }
@@ -0,0 +1,114 @@
+package park.bumsiku.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import park.bumsiku.config.ClockConfig;
+import park.bumsiku.config.LoggingConfig;
+import park.bumsiku.config.SecurityConfig;
+import park.bumsiku.service.ImageProxyService;
+import park.bumsiku.utils.image.ImageFormat;
+import park.bumsiku.utils.integration.DiscordWebhookCreator;
+
+import java.util.NoSuchElementException;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = ImageProxyController.class, properties = "image.proxy.enabled=true")
+@Import({SecurityConfig.class, ClockConfig.class, LoggingConfig.class})
+public class ImageProxyControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ImageProxyService imageProxyService;
+
+    @MockitoBean
+    private DiscordWebhookCreator webhookCreator;
+
+    @BeforeEach
+    void setUp() {
+        when(imageProxyService.variantKey(anyString(), any(), any()))
+                .thenAnswer(invocation -> invocation.getArgument(1) == ImageFormat.WEBP
+                        ? invocation.getArgument(0)
+                        : ((ImageFormat) invocation.getArgument(1)).variantKey(invocation.getArgument(0), invocation.getArgument(2)));
+    }
+
+    @Test
+    public void testGetImage_Success() throws Exception {
+        when(imageProxyService.get("a.webp", ImageFormat.WEBP, null)).thenReturn(new ByteArrayResource("image".getBytes()));
+
+        mockMvc.perform(get("/img/a.webp"))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes("image".getBytes()))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"a.webp\""));
+    }
+
+    @Test
+    public void testGetImage_JpegFallbackWhenWebpNotAccepted() throws Exception {
+        when(imageProxyService.get("a.webp", ImageFormat.JPEG, null)).thenReturn(new ByteArrayResource("jpeg".getBytes()));
+
+        mockMvc.perform(get("/img/a.webp").header(HttpHeaders.ACCEPT, "image/png,image/webp;q=0,*/*;q=0.5"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("image/jpeg"))
+                .andExpect(content().bytes("jpeg".getBytes()))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"a.webp.jpg\""))
+                .andExpect(header().string(HttpHeaders.VARY, containsString("Save-Data")));
+    }
+
+    @Test
+    public void testGetImage_WildcardAcceptGetsWebp() throws Exception {
+        when(imageProxyService.get("a.webp", ImageFormat.WEBP, null)).thenReturn(new ByteArrayResource("image".getBytes()));
+
+        mockMvc.perform(get("/img/a.webp").header(HttpHeaders.ACCEPT, "image/png,image/*;q=0.8,*/*;q=0.5"))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes("image".getBytes()))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"a.webp\""));
+    }
+
+    @Test
+    public void testGetImage_CompactWebpWithSaveData() throws Exception {
+        when(imageProxyService.get("a.webp", ImageFormat.WEBP_COMPACT, 640)).thenReturn(new ByteArrayResource("small".getBytes()));
+
+        mockMvc.perform(get("/img/a.webp").param("w", "640")
+                        .header(HttpHeaders.ACCEPT, "image/avif,image/webp,*/*")
+                        .header("Save-Data", "on"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("image/webp"))
+                .andExpect(content().bytes("small".getBytes()));
+    }
+
+    @Test
+    public void testGetImage_NotModified() throws Exception {
+        mockMvc.perform(get("/img/a.webp").header(HttpHeaders.IF_NONE_MATCH, "\"a.webp\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")))
+                .andExpect(header().string(HttpHeaders.VARY, "Accept, Save-Data"));
+
+        verify(imageProxyService, never()).get(anyString());
+        verify(imageProxyService, never()).get(anyString(), any(), any());
+    }
+
+    @Test
+    public void testGetImage_NotFound() throws Exception {
+        when(imageProxyService.get("missing.webp", ImageFormat.WEBP, null)).thenThrow(new NoSuchElementException("Image not found with key: missing.webp"));
+
+        mockMvc.perform(get("/img/missing.webp"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -13,11 +13,13 @@ import park.bumsiku.config.LoggingConfig;
 import park.bumsiku.config.SecurityConfig;
 import park.bumsiku.domain.dto.request.CommentRequest;
 import park.bumsiku.domain.dto.response.CommentResponse;
+import park.bumsiku.domain.dto.response.ImageMetadataResponse;
 import park.bumsiku.domain.dto.response.PostListResponse;
 import park.bumsiku.domain.dto.response.PostResponse;
 import park.bumsiku.domain.dto.response.PostSummaryResponse;
 import park.bumsiku.service.PublicService;
 import park.bumsiku.utils.integration.DiscordWebhookCreator;
+import park.bumsiku.utils.paging.CountMode;
 import park.bumsiku.utils.validation.ArgumentValidator;
 
 import java.util.Arrays;
@@ -83,7 +85,7 @@ public class PublicControllerTest {
                 .build();
 
         // Mock service response
-        when(publicService.getPostList(anyInt(), anyInt(), anyString()))
+        when(publicService.getPostList(anyInt(), anyInt(), anyString(), eq(CountMode.EXACT)))
                 .thenReturn(postListResponse);
 
         // Perform request and verify
@@ -103,7 +105,7 @@ public class PublicControllerTest {
     public void testGetPosts_InvalidPagination() throws Exception {
         // Mock validator to throw exception
         doThrow(new IllegalArgumentException("페이지 번호는 0 이상이어야 합니다"))
-                .when(publicService).getPostList(eq(-1), anyInt(), anyString());
+                .when(publicService).getPostList(eq(-1), anyInt(), anyString(), any(CountMode.class));
 
         // Perform request and verify
         mockMvc.perform(get("/posts")
@@ -116,6 +118,24 @@ public class PublicControllerTest {
                 .andExpect(jsonPath("$.error.message", containsString("페이지 번호는 0 이상이어야 합니다")));
     }
 
+    @Test
+    public void testGetPosts_WithoutCount() throws Exception {
+        PostListResponse postListResponse = PostListResponse.builder()
+                .content(List.of())
+                .pageNumber(0)
+                .pageSize(10)
+                .build();
+        when(publicService.getPostsByTag(eq("spring"), anyInt(), anyInt(), anyString(), eq(CountMode.NONE)))
+                .thenReturn(postListResponse);
+
+        mockMvc.perform(get("/posts")
+                        .param("tag", "spring")
+                        .param("count", "none"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success", is(true)))
+                .andExpect(jsonPath("$.data.totalElements").doesNotExist());
+    }
+
     @Test
     public void testGetPostById_Success() throws Exception {
         // Prepare test data
@@ -300,5 +320,31 @@ public class PublicControllerTest {
                 .andExpect(jsonPath("$.error.message", is("게시글을 찾을 수 없습니다")));
     }
 
+    @Test
+    public void testGetImageMetadata_Success() throws Exception {
+        ImageMetadataResponse metadata = ImageMetadataResponse.builder()
+                .url("https://cdn/a.webp")
+                .width(1280)
+                .height(720)
+                .placeholder("data:image/webp;base64,AAAA")
+                .build();
+        when(publicService.getImageMetadata("https://cdn/a.webp")).thenReturn(metadata);
 
+        mockMvc.perform(get("/images/metadata").param("url", "https://cdn/a.webp"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success", is(true)))
+                .andExpect(jsonPath("$.data.width", is(1280)))
+                .andExpect(jsonPath("$.data.height", is(720)))
+                .andExpect(jsonPath("$.data.placeholder", is("data:image/webp;base64,AAAA")));
+    }
+
+    @Test
+    public void testGetImageMetadata_NotFound() throws Exception {
+        when(publicService.getImageMetadata(anyString()))
+                .thenThrow(new NoSuchElementException("Image not found with url: https://cdn/unknown.webp"));
+
+        mockMvc.perform(get("/images/metadata").param("url", "https://cdn/unknown.webp"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error.code", is(404)));
+    }
 }
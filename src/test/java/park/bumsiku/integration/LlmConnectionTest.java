@@ -0,0 +1,65 @@
+package park.bumsiku.integration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import park.bumsiku.config.StubChatModel;
+import park.bumsiku.repository.ImageRepository;
+import park.bumsiku.service.LlmService;
+
+import javax.sql.DataSource;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * 실제 LlmService 로 요약을 생성하면서 모델 호출 중 커넥션 풀 상태를 확인합니다.
+ * AbstractTestSupport 는 LlmService 자체를 목으로 바꾸므로 별도 컨텍스트를 사용합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class LlmConnectionTest {
+
+    @MockitoBean
+    private ImageRepository imageRepository;
+
+    @MockitoBean(answers = Answers.RETURNS_DEEP_STUBS)
+    private ChatClient chatClient;
+
+    @Autowired
+    private LlmService llmService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("[IT] generateSummary - 모델 응답을 기다리는 동안 DB 커넥션을 점유하지 않음")
+    void generateSummary_doesNotHoldConnectionDuringModelCall() throws Exception {
+        // given
+        HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+        AtomicInteger activeDuringCall = new AtomicInteger(-1);
+        when(chatClient.prompt().messages(any(Message.class), any(Message.class)).call().chatResponse())
+                .thenAnswer(invocation -> {
+                    activeDuringCall.set(pool.getActiveConnections());
+                    return StubChatModel.response("커넥션 확인용 요약");
+                });
+
+        // when
+        String summary = llmService.generateSummary("커넥션 점유 확인용 본문입니다");
+
+        // then
+        assertThat(summary).isEqualTo("커넥션 확인용 요약");
+        assertThat(activeDuringCall.get()).isZero();
+        assertThat(pool.getActiveConnections()).isZero();
+    }
+}
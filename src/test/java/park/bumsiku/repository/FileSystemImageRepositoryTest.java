@@ -0,0 +1,79 @@
+package park.bumsiku.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FileSystemImageRepositoryTest {
+
+    @TempDir
+    Path root;
+
+    private FileSystemImageRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new FileSystemImageRepository(root.toString(), "/images");
+    }
+
+    @Test
+    @DisplayName("complete: 임시 파일을 최종 키로 rename 하고 URL을 반환")
+    void complete_shouldMoveFileIntoPlace() throws IOException {
+        String url;
+        try (ImageUpload upload = repository.openUpload("key.webp")) {
+            upload.write("content".getBytes());
+            assertThat(repository.find("key.webp")).isEmpty();
+            url = upload.complete();
+        }
+
+        assertThat(url).isEqualTo("/images/key.webp");
+        assertThat(repository.find("key.webp")).isPresent();
+        assertThat(Files.readString(root.resolve("key.webp"))).isEqualTo("content");
+        try (var files = Files.list(root)) {
+            assertThat(files).hasSize(1);
+        }
+    }
+
+    @Test
+    @DisplayName("close: complete 없이 닫히면 임시 파일을 지우고 최종 파일을 만들지 않음")
+    void close_withoutComplete_shouldDiscardUpload() throws IOException {
+        try (ImageUpload upload = repository.openUpload("key.webp")) {
+            upload.write("partial".getBytes());
+        }
+
+        assertThat(repository.find("key.webp")).isEmpty();
+        try (var files = Files.list(root)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("delete: 저장된 파일을 제거")
+    void delete_shouldRemoveFile() throws IOException {
+        try (ImageUpload upload = repository.openUpload("key.webp")) {
+            upload.write(1);
+            upload.complete();
+        }
+
+        repository.delete("key.webp");
+
+        assertThat(repository.find("key.webp")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("저장소 디렉터리 밖을 가리키는 키는 거절")
+    void resolve_shouldRejectPathTraversal() {
+        assertThatThrownBy(() -> repository.find("../secret.webp"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> repository.openUpload("nested/key.webp"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
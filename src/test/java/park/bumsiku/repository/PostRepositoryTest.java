@@ -0,0 +1,76 @@
+package park.bumsiku.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import park.bumsiku.domain.entity.Post;
+import park.bumsiku.domain.entity.Tag;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(PostRepository.class)
+class PostRepositoryTest {
+
+    private static final String ORDER_BY_ID = "ORDER BY p.id ASC";
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @BeforeEach
+    void setUp() {
+        Tag spring = Tag.builder().name("Spring").build();
+        spring.prePersist();
+        entityManager.persist(spring);
+        for (int i = 1; i <= 5; i++) {
+            Post post = Post.builder()
+                    .title("title " + i)
+                    .content("content " + i)
+                    .summary("summary " + i)
+                    .state("published")
+                    .build();
+            if (i <= 3) {
+                post.addTag(spring);
+            }
+            entityManager.persist(post);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("findPageWithTotal: 페이지와 전체 건수를 한 번에 반환")
+    void findPageWithTotal_shouldReturnPageAndTotal() {
+        PostPage page = postRepository.findPageWithTotal(1, 2, ORDER_BY_ID);
+
+        assertThat(page.posts()).extracting(Post::getTitle).containsExactly("title 3", "title 4");
+        assertThat(page.totalElements()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("findPageWithTotal: 마지막 페이지를 넘기면 빈 목록과 count 쿼리 결과를 반환")
+    void findPageWithTotal_pastLastPage_shouldFallBackToCount() {
+        PostPage page = postRepository.findPageWithTotal(3, 2, ORDER_BY_ID);
+
+        assertThat(page.posts()).isEmpty();
+        assertThat(page.totalElements()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("findPageWithTotalByTagName: 태그가 달린 게시물만 세어 반환")
+    void findPageWithTotalByTagName_shouldCountTaggedPostsOnly() {
+        PostPage page = postRepository.findPageWithTotalByTagName("Spring", 0, 2, ORDER_BY_ID);
+
+        assertThat(page.posts()).extracting(Post::getTitle).containsExactly("title 1", "title 2");
+        assertThat(page.totalElements()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,182 @@
+package park.bumsiku.repository;
+
+import com.sksamuel.scrimage.ImmutableImage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import park.bumsiku.utils.image.ImageVariantEncoder;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class S3MultipartOutputStreamTest {
+
+    private static final int PART_SIZE = S3MultipartOutputStream.MIN_PART_SIZE;
+    private static final int INITIAL_BUFFER_SIZE = S3MultipartOutputStream.INITIAL_BUFFER_SIZE;
+
+    @Mock
+    private S3Client s3;
+
+    private S3MultipartOutputStream newStream() {
+        return new S3MultipartOutputStream(s3, "bucket", "key.webp", "image/webp", "https://cdn/key.webp", PART_SIZE);
+    }
+
+    private void stubMultipart() {
+        when(s3.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+        when(s3.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenAnswer(invocation -> UploadPartResponse.builder()
+                        .eTag("etag-" + invocation.<UploadPartRequest>getArgument(0).partNumber())
+                        .build());
+    }
+
+    private void writeBytes(OutputStream out, long total) throws IOException {
+        byte[] chunk = new byte[64 * 1024];
+        long written = 0;
+        while (written < total) {
+            int length = (int) Math.min(chunk.length, total - written);
+            out.write(chunk, 0, length);
+            written += length;
+        }
+    }
+
+    @Test
+    @DisplayName("파트 크기보다 작은 결과물은 단일 PUT 으로 업로드")
+    void complete_smallObject_shouldUsePutObject() throws IOException {
+        String url;
+        try (S3MultipartOutputStream out = newStream()) {
+            writeBytes(out, 1024);
+            url = out.complete();
+        }
+
+        assertThat(url).isEqualTo("https://cdn/key.webp");
+        ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(s3).putObject(captor.capture(), any(RequestBody.class));
+        assertThat(captor.getValue().contentLength()).isEqualTo(1024L);
+        verify(s3, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+    }
+
+    @Test
+    @DisplayName("큰 결과물은 파트 단위로 업로드하고 순서대로 완료")
+    void complete_largeObject_shouldUploadParts() throws IOException {
+        stubMultipart();
+
+        try (S3MultipartOutputStream out = newStream()) {
+            writeBytes(out, 2L * PART_SIZE + 10);
+            out.complete();
+        }
+
+        verify(s3, times(3)).uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
+        ArgumentCaptor<CompleteMultipartUploadRequest> captor = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3).completeMultipartUpload(captor.capture());
+        assertThat(captor.getValue().multipartUpload().parts())
+                .extracting(CompletedPart::partNumber)
+                .containsExactly(1, 2, 3);
+        verify(s3, never()).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+    }
+
+    @Test
+    @DisplayName("complete 전에 닫히면 멀티파트 업로드를 취소")
+    void close_withoutComplete_shouldAbort() throws IOException {
+        stubMultipart();
+
+        try (S3MultipartOutputStream out = newStream()) {
+            writeBytes(out, PART_SIZE + 1);
+        }
+
+        verify(s3).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(s3, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @Test
+    @DisplayName("업로드 크기와 무관하게 힙 할당량은 파트 버퍼 하나 수준으로 제한")
+    void write_largeObject_shouldBoundPeakHeapToPartBuffer() throws IOException {
+        stubMultipart();
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        // 클래스 로딩 등 1회성 할당 제외를 위한 워밍업
+        try (S3MultipartOutputStream out = newStream()) {
+            writeBytes(out, PART_SIZE + 1);
+            out.complete();
+        }
+
+        long before = threads.getThreadAllocatedBytes(threadId);
+        try (S3MultipartOutputStream out = newStream()) {
+            writeBytes(out, 12L * PART_SIZE);
+            out.complete();
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        // 60MB 를 흘려보내도 할당량은 파트 크기까지 늘어나는 버퍼(누적 약 2.5배) + 소량의 요청 객체 수준
+        assertThat(allocated).isLessThan(3L * PART_SIZE);
+    }
+
+    @Test
+    @DisplayName("작은 결과물은 파트 크기가 아니라 쓴 만큼만 버퍼를 할당")
+    void write_smallObject_shouldNotAllocateWholePart() throws IOException {
+        long before = allocatedBytes();
+        try (S3MultipartOutputStream out = newStream()) {
+            writeBytes(out, 1024);
+            out.complete();
+        }
+        long allocated = allocatedBytes() - before;
+
+        assertThat(allocated).isLessThan(PART_SIZE / 10);
+    }
+
+    @Test
+    @DisplayName("실제 업로드 경로: WebP 변형을 저장소 업로드로 인코딩해도 추가 할당은 결과물 크기 수준")
+    void encodeIntoRepositoryUpload_shouldBoundUploadOverhead() throws IOException {
+        S3ImageRepository repository = new S3ImageRepository(s3, "bucket", "https://cdn", PART_SIZE);
+        ImageVariantEncoder encoder = new ImageVariantEncoder(new int[]{100});
+        ImmutableImage source;
+        try (InputStream in = getClass().getResourceAsStream("/images.jpeg")) {
+            source = ImmutableImage.loader().fromStream(in);
+        }
+
+        // 워밍업 후 저장소 없이 인코딩만 했을 때의 할당량을 기준으로 삼음
+        encoder.encode(source, 100, OutputStream.nullOutputStream());
+        uploadVariant(repository, encoder, source);
+        long before = allocatedBytes();
+        encoder.encode(source, 100, OutputStream.nullOutputStream());
+        long encodeOnly = allocatedBytes() - before;
+
+        before = allocatedBytes();
+        uploadVariant(repository, encoder, source);
+        long withUpload = allocatedBytes() - before;
+
+        ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(s3, times(2)).putObject(captor.capture(), any(RequestBody.class));
+        long encodedSize = captor.getValue().contentLength();
+        assertThat(encodedSize).isPositive().isLessThan(INITIAL_BUFFER_SIZE);
+        // 업로드 경로가 더하는 할당은 결과물 크기의 버퍼 하나와 요청 객체 정도로, 파트 버퍼(5MB)보다 훨씬 작음
+        assertThat(withUpload - encodeOnly).isLessThan(PART_SIZE / 10);
+    }
+
+    private void uploadVariant(S3ImageRepository repository, ImageVariantEncoder encoder, ImmutableImage source)
+            throws IOException {
+        try (ImageUpload upload = repository.openUpload("key-100w.webp")) {
+            encoder.encode(source, 100, upload);
+            upload.complete();
+        }
+    }
+
+    private static long allocatedBytes() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
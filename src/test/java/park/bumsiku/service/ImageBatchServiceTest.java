@@ -0,0 +1,105 @@
+package park.bumsiku.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+import park.bumsiku.domain.dto.response.ImageBatchItemResponse;
+import park.bumsiku.domain.dto.response.ImageBatchResponse;
+import park.bumsiku.domain.dto.response.UploadImageResponse;
+import park.bumsiku.utils.validation.ArgumentValidator;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImageBatchServiceTest {
+
+    @Mock
+    private PrivateService privateService;
+
+    @Mock
+    private ArgumentValidator validator;
+
+    private ImageBatchService imageBatchService;
+
+    @BeforeEach
+    void setUp() {
+        imageBatchService = new ImageBatchService(privateService, validator, 2, 30, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        imageBatchService.shutdown();
+    }
+
+    private MultipartFile image(String name) {
+        return new MockMultipartFile("images", name, "image/jpeg", name.getBytes());
+    }
+
+    @Test
+    @DisplayName("upload: 일부 파일이 실패해도 나머지를 처리하고 입력 순서대로 결과를 반환")
+    void upload_partialFailure_shouldKeepOrderAndContinue() {
+        List<MultipartFile> images = List.of(image("a.jpg"), image("b.txt"), image("c.jpg"));
+        doThrow(new IllegalArgumentException("지원하지 않는 이미지 형식입니다"))
+                .when(validator).validateImage(images.get(1));
+        when(privateService.uploadImage(images.get(0)))
+                .thenReturn(UploadImageResponse.builder().url("url-a").build());
+        when(privateService.uploadImage(images.get(2)))
+                .thenThrow(new RuntimeException("이미지 변환 및 저장 실패"));
+
+        ImageBatchResponse response = imageBatchService.upload(images);
+
+        assertThat(response.getResults()).extracting(ImageBatchItemResponse::getFilename)
+                .containsExactly("a.jpg", "b.txt", "c.jpg");
+        assertThat(response.getResults()).extracting(ImageBatchItemResponse::isSuccess)
+                .containsExactly(true, false, false);
+        assertThat(response.getResults().get(0).getImage().getUrl()).isEqualTo("url-a");
+        assertThat(response.getResults().get(1).getError()).contains("지원하지 않는");
+        assertThat(response.getSucceeded()).isEqualTo(1);
+        assertThat(response.getFailed()).isEqualTo(2);
+        verify(privateService, never()).uploadImage(images.get(1));
+    }
+
+    @Test
+    @DisplayName("upload: 동시에 처리되는 파일 수는 설정한 병렬도를 넘지 않는다")
+    void upload_shouldBoundParallelism() {
+        List<MultipartFile> images = IntStream.range(0, 10).mapToObj(i -> image(i + ".jpg")).toList();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        when(privateService.uploadImage(any(MultipartFile.class))).thenAnswer(invocation -> {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            return UploadImageResponse.builder().url("url").build();
+        });
+
+        ImageBatchResponse response = imageBatchService.upload(images);
+
+        assertThat(response.getSucceeded()).isEqualTo(10);
+        // 풀 스레드 2개 + 포화 시 호출 스레드
+        assertThat(peak.get()).isBetween(1, 3);
+    }
+
+    @Test
+    @DisplayName("upload: 파일이 없거나 개수 제한을 넘으면 IllegalArgumentException")
+    void upload_invalidBatch_shouldThrow() {
+        assertThatThrownBy(() -> imageBatchService.upload(List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        List<MultipartFile> tooMany = IntStream.range(0, 31).mapToObj(i -> image(i + ".jpg")).toList();
+        assertThatThrownBy(() -> imageBatchService.upload(tooMany))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,217 @@
+package park.bumsiku.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import park.bumsiku.domain.dto.response.ImageGcResponse;
+import park.bumsiku.domain.entity.StoredImage;
+import park.bumsiku.domain.event.ImagesDeletedEvent;
+import park.bumsiku.repository.ImageRepository;
+import park.bumsiku.repository.PostRepository;
+import park.bumsiku.repository.StoredImageRepository;
+import park.bumsiku.utils.exceptions.TooManyRequestsException;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImageGcServiceTest {
+
+    private static final String USED = "11111111-1111-1111-1111-111111111111";
+    private static final String ORPHAN = "22222222-2222-2222-2222-222222222222";
+    private static final String RECENT = "33333333-3333-3333-3333-333333333333";
+    private static final String SHARED = "44444444-4444-4444-4444-444444444444";
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final Instant NOW = Instant.parse("2025-06-01T00:00:00Z");
+    private static final LocalDateTime OLD = LocalDateTime.ofInstant(NOW, ZONE).minusDays(30);
+    private static final LocalDateTime NEW = LocalDateTime.ofInstant(NOW, ZONE).minusDays(1);
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private StoredImageRepository storedImageRepository;
+
+    @Mock
+    private ImageRepository imageRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ImageGcService imageGcService;
+
+    @BeforeEach
+    void setUp() {
+        imageGcService = new ImageGcService(
+                postRepository, storedImageRepository, imageRepository,
+                Clock.fixed(NOW, ZONE), eventPublisher, 7, 500);
+    }
+
+    private static StoredImage image(long id, String sourceHash, String storageKey, long size, LocalDateTime createdAt) {
+        return StoredImage.builder()
+                .id(id)
+                .sourceHash(sourceHash)
+                .contentHash("content-" + id)
+                .storageKey(storageKey)
+                .url("/images/" + storageKey)
+                .width(640)
+                .size(size)
+                .createdAt(createdAt)
+                .build();
+    }
+
+    private void givenImages(StoredImage... images) {
+        when(storedImageRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any()))
+                .thenReturn(List.of(images));
+    }
+
+    private void givenPosts(String... contents) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < contents.length; i++) {
+            rows.add(new Object[]{i + 1, contents[i]});
+        }
+        when(postRepository.findContentsAfter(0, 500)).thenReturn(rows);
+    }
+
+    @Test
+    @DisplayName("run: 참조되지 않고 유예 기간이 지난 원본의 모든 변형만 삭제하고 확보 용량을 반환")
+    void run_shouldDeleteOnlyUnreferencedExpiredSources() {
+        givenImages(
+                image(1L, "used", USED + ".webp", 100L, OLD),
+                image(2L, "used", USED + "-320w.webp", 50L, OLD),
+                image(3L, "orphan", ORPHAN + ".webp", 200L, OLD),
+                image(4L, "orphan", ORPHAN + "-320w.webp", 80L, OLD),
+                image(5L, "recent", RECENT + ".webp", 300L, NEW));
+        // srcset 없이 원본 크기 URL 만 걸려 있어도 같은 원본의 다른 변형은 살아야 함
+        givenPosts("![img](https://cdn.example.com/" + USED + ".webp)", null);
+
+        ImageGcResponse response = imageGcService.run(false);
+
+        assertThat(response.getScannedPosts()).isEqualTo(2);
+        assertThat(response.getScannedImages()).isEqualTo(5);
+        assertThat(response.getDeletedImages()).isEqualTo(2);
+        assertThat(response.getDeletedObjects()).isEqualTo(2);
+        assertThat(response.getReclaimedBytes()).isEqualTo(280L);
+        verify(imageRepository).deleteAll(argThat((Collection<String> keys) ->
+                keys.size() == 2 && keys.containsAll(List.of(ORPHAN + ".webp", ORPHAN + "-320w.webp"))));
+        verify(storedImageRepository).deleteAllInBatch(argThat(rows ->
+                rows instanceof List<?> list && list.size() == 2));
+        verify(eventPublisher).publishEvent(new ImagesDeletedEvent(Set.of(ORPHAN + ".webp", ORPHAN + "-320w.webp")));
+    }
+
+    @Test
+    @DisplayName("run: 오래전에 만들어졌어도 최근 중복 업로드로 다시 쓰인 원본은 보존")
+    void run_recentlyReusedSource_shouldKeepImages() {
+        StoredImage reused = image(1L, "reused", ORPHAN + ".webp", 200L, OLD);
+        reused.setLastUsedAt(NEW);
+        givenImages(reused);
+        givenPosts("no images here");
+
+        ImageGcResponse response = imageGcService.run(false);
+
+        assertThat(response.getDeletedImages()).isZero();
+        verify(imageRepository, never()).deleteAll(any());
+    }
+
+    @Test
+    @DisplayName("run: 스캔 뒤 삭제 전에 다시 쓰인 원본은 삭제 대상에서 제외")
+    void run_reusedDuringScan_shouldKeepImages() {
+        givenImages(image(1L, "orphan", ORPHAN + ".webp", 200L, OLD));
+        givenPosts("no images here");
+        StoredImage touched = image(1L, "orphan", ORPHAN + ".webp", 200L, OLD);
+        touched.setLastUsedAt(NEW);
+        when(storedImageRepository.findAllById(List.of(1L))).thenReturn(List.of(touched));
+
+        ImageGcResponse response = imageGcService.run(false);
+
+        assertThat(response.getDeletedImages()).isZero();
+        verify(imageRepository, never()).deleteAll(any());
+        verify(storedImageRepository, never()).deleteAllInBatch(any());
+    }
+
+    @Test
+    @DisplayName("run: 저장소에서 지우지 못한 객체의 행은 남겨 다음 실행에서 다시 시도")
+    void run_failedObjectDelete_shouldKeepRows() {
+        givenImages(
+                image(1L, "orphan", ORPHAN + ".webp", 200L, OLD),
+                image(2L, "orphan", ORPHAN + "-320w.webp", 80L, OLD));
+        givenPosts("no images here");
+        when(imageRepository.deleteAll(any())).thenReturn(Set.of(ORPHAN + ".webp"));
+
+        ImageGcResponse response = imageGcService.run(false);
+
+        assertThat(response.getDeletedImages()).isEqualTo(1);
+        assertThat(response.getDeletedObjects()).isEqualTo(1);
+        assertThat(response.getFailedObjects()).isEqualTo(1);
+        assertThat(response.getReclaimedBytes()).isEqualTo(80L);
+        verify(storedImageRepository).deleteAllInBatch(argThat(rows ->
+                rows instanceof List<?> list && list.size() == 1
+                        && ((StoredImage) list.get(0)).getId() == 2L));
+        verify(eventPublisher).publishEvent(new ImagesDeletedEvent(Set.of(ORPHAN + "-320w.webp")));
+    }
+
+    @Test
+    @DisplayName("run: 내용 중복으로 참조 중인 객체를 공유하는 원본은 보존")
+    void run_sharedObject_shouldKeepObject() {
+        givenImages(
+                image(1L, "live", SHARED + ".webp", 100L, OLD),
+                image(2L, "duplicate", SHARED + ".webp", 100L, OLD));
+        givenPosts("<img src=\"/img/" + SHARED + ".webp?w=640\">");
+
+        ImageGcResponse response = imageGcService.run(false);
+
+        assertThat(response.getDeletedImages()).isZero();
+        verify(imageRepository, never()).deleteAll(any());
+        verify(storedImageRepository, never()).deleteAllInBatch(any());
+    }
+
+    @Test
+    @DisplayName("run: dryRun 이면 삭제 없이 대상만 집계")
+    void run_dryRun_shouldNotDelete() {
+        givenImages(image(1L, "orphan", ORPHAN + ".webp", 200L, OLD));
+        givenPosts("no images here");
+
+        ImageGcResponse response = imageGcService.run(true);
+
+        assertThat(response.isDryRun()).isTrue();
+        assertThat(response.getDeletedObjects()).isEqualTo(1);
+        assertThat(response.getReclaimedBytes()).isEqualTo(200L);
+        verifyNoInteractions(imageRepository);
+        verify(storedImageRepository, never()).deleteAllInBatch(any());
+    }
+
+    @Test
+    @DisplayName("run: 이미 실행 중이면 TooManyRequestsException")
+    void run_whileRunning_shouldThrow() {
+        when(storedImageRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any())).thenReturn(List.of());
+        when(postRepository.findContentsAfter(anyInt(), anyInt())).thenAnswer(invocation -> {
+            assertThatThrownBy(() -> imageGcService.run(true))
+                    .isInstanceOf(TooManyRequestsException.class);
+            return List.of();
+        });
+
+        ImageGcResponse response = imageGcService.run(true);
+
+        assertThat(response.getScannedPosts()).isZero();
+        verify(postRepository, times(1)).findContentsAfter(anyInt(), anyInt());
+    }
+}
@@ -0,0 +1,120 @@
+package park.bumsiku.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import park.bumsiku.domain.dto.response.ImageJobResponse;
+import park.bumsiku.domain.dto.response.UploadImageResponse;
+import park.bumsiku.utils.exceptions.TooManyRequestsException;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ImageJobServiceTest {
+
+    @Mock
+    private PrivateService privateService;
+
+    private ImageJobService imageJobService;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneId.of("Asia/Seoul"));
+        imageJobService = new ImageJobService(privateService, clock, 1, 1, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        imageJobService.shutdown();
+    }
+
+    private MockMultipartFile image() {
+        return new MockMultipartFile("image", "test.jpg", "image/jpeg", "content".getBytes());
+    }
+
+    private ImageJobResponse awaitFinished(String jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        ImageJobResponse job = imageJobService.getJob(jobId);
+        while (!job.getStatus().equals("COMPLETED") && !job.getStatus().equals("FAILED")) {
+            assertThat(System.nanoTime()).as("job did not finish in time").isLessThan(deadline);
+            Thread.sleep(10);
+            job = imageJobService.getJob(jobId);
+        }
+        return job;
+    }
+
+    @Test
+    @DisplayName("submit: 작업 ID를 즉시 반환하고 워커가 업로드를 완료한다")
+    void submit_shouldCompleteJobInBackground() throws Exception {
+        when(privateService.uploadImage(any(), anyString()))
+                .thenReturn(UploadImageResponse.builder().url("test-url").size(10).build());
+
+        ImageJobResponse queued = imageJobService.submit(image());
+
+        assertThat(queued.getJobId()).isNotBlank();
+        ImageJobResponse finished = awaitFinished(queued.getJobId());
+        assertThat(finished.getStatus()).isEqualTo("COMPLETED");
+        assertThat(finished.getUrl()).isEqualTo("test-url");
+        assertThat(finished.getSize()).isEqualTo(10L);
+        assertThat(finished.getCompletedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("submit: 변환 실패 시 작업 상태가 FAILED 로 기록된다")
+    void submit_whenUploadFails_shouldMarkJobFailed() throws Exception {
+        when(privateService.uploadImage(any(), anyString()))
+                .thenThrow(new RuntimeException("이미지 변환 및 저장 실패"));
+
+        ImageJobResponse queued = imageJobService.submit(image());
+
+        ImageJobResponse finished = awaitFinished(queued.getJobId());
+        assertThat(finished.getStatus()).isEqualTo("FAILED");
+        assertThat(finished.getError()).contains("이미지 변환 및 저장 실패");
+    }
+
+    @Test
+    @DisplayName("submit: 워커와 대기열이 모두 차면 TooManyRequestsException")
+    void submit_whenQueueSaturated_shouldReject() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(privateService.uploadImage(any(), anyString())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return UploadImageResponse.builder().url("test-url").build();
+        });
+
+        try {
+            imageJobService.submit(image());          // 워커 점유
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            imageJobService.submit(image());          // 대기열 1칸 점유
+
+            assertThatThrownBy(() -> imageJobService.submit(image()))
+                    .isInstanceOf(TooManyRequestsException.class);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("getJob: 존재하지 않는 작업 ID는 NoSuchElementException")
+    void getJob_whenUnknown_shouldThrow() {
+        assertThatThrownBy(() -> imageJobService.getJob("unknown"))
+                .isInstanceOf(NoSuchElementException.class);
+    }
+}
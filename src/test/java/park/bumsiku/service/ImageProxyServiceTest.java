@@ -0,0 +1,298 @@
+package park.bumsiku.service;
+
+import com.sksamuel.scrimage.ImmutableImage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+import park.bumsiku.domain.event.ImagesDeletedEvent;
+import park.bumsiku.repository.ImageRepository;
+import park.bumsiku.repository.ImageUpload;
+import park.bumsiku.utils.image.ImageDecoder;
+import park.bumsiku.utils.image.ImageFormat;
+import park.bumsiku.utils.image.ImageProcessingExecutor;
+import park.bumsiku.utils.image.ImageVariantEncoder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Set;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImageProxyServiceTest {
+
+    @TempDir
+    Path cacheDir;
+
+    private final StubImageRepository storage = new StubImageRepository();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ImageProcessingExecutor processingExecutor = new ImageProcessingExecutor(meterRegistry, 1, 4, "abort");
+
+    private ImageProxyService newService(long memoryBudget, long diskBudget) {
+        return new ImageProxyService(storage, new ImageDecoder(40_000_000L, 2560, 16383), new ImageVariantEncoder(new int[]{100, 200}),
+                processingExecutor, meterRegistry, cacheDir.toString(), memoryBudget, diskBudget);
+    }
+
+    @AfterEach
+    void tearDown() {
+        processingExecutor.shutdown();
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("image.proxy.requests").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("get: 첫 요청만 저장소에서 읽고 이후는 메모리 캐시에서 응답")
+    void get_shouldReadThroughOnce() throws IOException {
+        storage.put("a.webp", new byte[100]);
+        ImageProxyService service = newService(16 * 1024, 1024 * 1024);
+
+        Resource first = service.get("a.webp");
+        Resource second = service.get("a.webp");
+
+        assertThat(first.contentLength()).isEqualTo(100);
+        assertThat(second.contentLength()).isEqualTo(100);
+        assertThat(storage.loads("a.webp")).isEqualTo(1);
+        assertThat(requests("miss")).isEqualTo(1);
+        assertThat(requests("memory")).isEqualTo(1);
+        assertThat(cacheDir.resolve("a.webp")).exists();
+    }
+
+    @Test
+    @DisplayName("get: 같은 키의 동시 미스는 저장소 조회 한 번으로 합침")
+    void get_concurrentMisses_shouldBeCollapsed() throws Exception {
+        storage.put("a.webp", new byte[1000]);
+        storage.blockLoads();
+        ImageProxyService service = newService(16 * 1024, 1024 * 1024);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+
+        try {
+            List<Future<Resource>> results = IntStream.range(0, 8)
+                    .mapToObj(i -> pool.submit(() -> service.get("a.webp")))
+                    .toList();
+            assertThat(storage.awaitLoadStarted()).isTrue();
+            Thread.sleep(100);
+            storage.releaseLoads();
+
+            for (Future<Resource> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS).contentLength()).isEqualTo(1000);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(storage.loads("a.webp")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("get: 디스크 용량을 넘으면 가장 오래 사용하지 않은 파일부터 제거")
+    void get_overDiskBudget_shouldEvictLeastRecentlyUsed() {
+        storage.put("a.webp", new byte[400]);
+        storage.put("b.webp", new byte[400]);
+        storage.put("c.webp", new byte[400]);
+        ImageProxyService service = newService(0, 1000);
+
+        service.get("a.webp");
+        service.get("b.webp");
+        service.get("a.webp");
+        service.get("c.webp");
+
+        assertThat(cacheDir.resolve("a.webp")).exists();
+        assertThat(cacheDir.resolve("b.webp")).doesNotExist();
+        assertThat(cacheDir.resolve("c.webp")).exists();
+    }
+
+    @Test
+    @DisplayName("get: 응답 스트림이 열려 있는 동안 LRU 로 밀려난 파일은 스트림이 닫힐 때 삭제")
+    void get_evictedWhileStreaming_shouldDeferDeletion() throws IOException {
+        byte[] content = new byte[400];
+        content[399] = 7;
+        storage.put("a.webp", content);
+        storage.put("b.webp", new byte[400]);
+        storage.put("c.webp", new byte[400]);
+        ImageProxyService service = newService(0, 1000);
+
+        Resource resource = service.get("a.webp");
+        try (InputStream in = resource.getInputStream()) {
+            service.get("b.webp");
+            service.get("c.webp");
+
+            assertThat(cacheDir.resolve("a.webp")).exists();
+            assertThat(in.readAllBytes()).isEqualTo(content);
+        }
+        assertThat(cacheDir.resolve("a.webp")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("get: 스트림을 열기 전에 밀려난 파일은 다시 채워 끝까지 읽음")
+    void get_evictedBeforeStreaming_shouldRefill() throws IOException {
+        storage.put("a.webp", new byte[400]);
+        storage.put("b.webp", new byte[400]);
+        storage.put("c.webp", new byte[400]);
+        ImageProxyService service = newService(0, 1000);
+
+        Resource resource = service.get("a.webp");
+        service.get("b.webp");
+        service.get("c.webp");
+
+        assertThat(resource.getContentAsByteArray()).hasSize(400);
+        assertThat(storage.loads("a.webp")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("onImagesDeleted: GC 가 지운 키의 원본과 변환본을 캐시에서 비움")
+    void onImagesDeleted_shouldEvictOriginalAndVariants() throws IOException {
+        storage.put("a.webp", getClass().getResourceAsStream("/images.jpeg").readAllBytes());
+        storage.put("b.webp", new byte[100]);
+        ImageProxyService service = newService(1024 * 1024, 16 * 1024 * 1024);
+        service.get("a.webp", ImageFormat.JPEG, null);
+        service.get("b.webp");
+
+        service.onImagesDeleted(new ImagesDeletedEvent(Set.of("a.webp")));
+
+        assertThat(cacheDir.resolve("a.webp")).doesNotExist();
+        assertThat(cacheDir.resolve("a.webp.jpg")).doesNotExist();
+        assertThat(cacheDir.resolve("b.webp")).exists();
+        storage.delete("a.webp");
+        assertThatThrownBy(() -> service.get("a.webp")).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    @DisplayName("재시작 시 디스크 캐시를 다시 사용")
+    void restart_shouldReuseDiskCache() throws IOException {
+        Files.write(cacheDir.resolve("a.webp"), new byte[100]);
+        Files.write(cacheDir.resolve(".fetch-leftover.tmp"), new byte[10]);
+
+        ImageProxyService service = newService(16 * 1024, 1024 * 1024);
+        Resource resource = service.get("a.webp");
+
+        assertThat(resource.contentLength()).isEqualTo(100);
+        assertThat(storage.loads("a.webp")).isZero();
+        assertThat(requests("disk")).isEqualTo(1);
+        assertThat(cacheDir.resolve(".fetch-leftover.tmp")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("get: 저장소에 없는 키는 NoSuchElementException, 잘못된 키는 IllegalArgumentException")
+    void get_invalidOrMissingKey_shouldThrow() {
+        ImageProxyService service = newService(16 * 1024, 1024 * 1024);
+
+        assertThatThrownBy(() -> service.get("missing.webp")).isInstanceOf(NoSuchElementException.class);
+        assertThatThrownBy(() -> service.get("../etc/passwd")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.get(".hidden")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("get: JPEG 변환본을 요청 너비에 맞춰 한 번만 만들고 절감 바이트를 기록")
+    void get_withJpegFormat_shouldTranscodeOnceAndCache() throws IOException {
+        storage.put("a.webp", getClass().getResourceAsStream("/images.jpeg").readAllBytes());
+        ImageProxyService service = newService(1024 * 1024, 16 * 1024 * 1024);
+
+        Resource first = service.get("a.webp", ImageFormat.JPEG, 150);
+        Resource second = service.get("a.webp", ImageFormat.JPEG, 150);
+
+        byte[] jpeg = first.getContentAsByteArray();
+        assertThat(jpeg[0]).isEqualTo((byte) 0xFF);
+        assertThat(jpeg[1]).isEqualTo((byte) 0xD8);
+        assertThat(ImmutableImage.loader().fromBytes(jpeg).width).isEqualTo(200);
+        assertThat(second.getContentAsByteArray()).isEqualTo(jpeg);
+        assertThat(storage.loads("a.webp")).isEqualTo(1);
+        assertThat(cacheDir.resolve("a.webp.200w.jpg")).exists();
+        assertThat(meterRegistry.get("image.proxy.bytes.saved").tag("format", "jpeg").summary().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("variantKey: 원본 WebP 요청은 이미지 키 그대로, 나머지는 형식/너비별 키")
+    void variantKey_shouldIncludeFormatAndSnappedWidth() {
+        ImageProxyService service = newService(16 * 1024, 1024 * 1024);
+
+        assertThat(service.variantKey("a.webp", ImageFormat.WEBP, null)).isEqualTo("a.webp");
+        assertThat(service.variantKey("a.webp", ImageFormat.WEBP, 5000)).isEqualTo("a.webp");
+        assertThat(service.variantKey("a.webp", ImageFormat.WEBP, 90)).isEqualTo("a.webp.100w.webp");
+        assertThat(service.variantKey("a.webp", ImageFormat.WEBP_COMPACT, null)).isEqualTo("a.webp.compact.webp");
+        assertThat(service.variantKey("a.webp", ImageFormat.JPEG, null)).isEqualTo("a.webp.jpg");
+    }
+
+    /**
+     * 메모리에 객체를 보관하는 로컬 S3 대역
+     */
+    private static class StubImageRepository implements ImageRepository {
+
+        private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+        private final Map<String, AtomicInteger> loads = new ConcurrentHashMap<>();
+        private final CountDownLatch loadStarted = new CountDownLatch(1);
+        private volatile CountDownLatch gate;
+
+        void put(String key, byte[] content) {
+            objects.put(key, content);
+        }
+
+        int loads(String key) {
+            return loads.getOrDefault(key, new AtomicInteger()).get();
+        }
+
+        void blockLoads() {
+            gate = new CountDownLatch(1);
+        }
+
+        void releaseLoads() {
+            gate.countDown();
+        }
+
+        boolean awaitLoadStarted() throws InterruptedException {
+            return loadStarted.await(5, TimeUnit.SECONDS);
+        }
+
+        @Override
+        public InputStream load(String filename) {
+            loads.computeIfAbsent(filename, key -> new AtomicInteger()).incrementAndGet();
+            loadStarted.countDown();
+            if (gate != null) {
+                try {
+                    gate.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            byte[] content = objects.get(filename);
+            if (content == null) {
+                throw new NoSuchElementException("Image not found with key: " + filename);
+            }
+            return new ByteArrayInputStream(content);
+        }
+
+        @Override
+        public ImageUpload openUpload(String filename) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void delete(String filename) {
+            objects.remove(filename);
+        }
+
+        @Override
+        public Set<String> deleteAll(Collection<String> filenames) {
+            filenames.forEach(objects::remove);
+            return Set.of();
+        }
+    }
+}
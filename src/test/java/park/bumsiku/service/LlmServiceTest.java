@@ -1,16 +1,34 @@
 package park.bumsiku.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.openai.OpenAiChatOptions;
+import park.bumsiku.config.StubChatModel;
+import park.bumsiku.domain.entity.SummaryCache;
+import park.bumsiku.domain.event.PostChangedEvent;
 import park.bumsiku.repository.PostRepository;
+import park.bumsiku.repository.SummaryCacheRepository;
+import park.bumsiku.utils.llm.LlmCallGuard;
+import park.bumsiku.utils.llm.LlmUsageRecorder;
+import park.bumsiku.utils.llm.MarkdownChunker;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -32,9 +50,57 @@ class LlmServiceTest {
     @Mock
     private PostRepository postRepository;
 
-    @InjectMocks
+    @Mock
+    private SummaryCacheRepository summaryCacheRepository;
+
+    private final OpenAiChatOptions chatOptions = OpenAiChatOptions.builder()
+            .model("gpt-4.1-nano")
+            .temperature(0.5)
+            .build();
+
+    private MeterRegistry meterRegistry;
+
+    private LlmCallGuard llmCallGuard;
+
     private LlmService llmService;
 
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        llmCallGuard = new LlmCallGuard(meterRegistry, 8, 0, 30_000, "", 1000, false);
+        llmService = newService(chatClient, new MarkdownChunker(6000, 3000));
+    }
+
+    @AfterEach
+    void tearDown() {
+        llmService.shutdown();
+        llmCallGuard.shutdown();
+    }
+
+    private LlmService newService(ChatClient client, MarkdownChunker chunker) {
+        if (llmService != null) {
+            llmService.shutdown();
+        }
+        return new LlmService(client, postRepository, summaryCacheRepository, chatOptions,
+                chunker, llmCallGuard, new LlmUsageRecorder(meterRegistry, Clock.systemUTC(), "gpt-4.1-nano=0.10/0.40", 60),
+                meterRegistry, 4, 32, 10_000, false);
+    }
+
+    private ChatClient answeringChatClient(String summary, CountDownLatch started, CountDownLatch release) {
+        ChatClient client = mock(ChatClient.class, RETURNS_DEEP_STUBS);
+        when(client.prompt().messages(any(Message.class), any(Message.class)).call().chatResponse())
+                .thenAnswer(invocation -> {
+                    started.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return StubChatModel.response(summary);
+                });
+        return client;
+    }
+
+    private double cacheCount(String result) {
+        return meterRegistry.get("llm.summary.cache").tag("result", result).counter().count();
+    }
+
     @Test
     void generateSummary_CallsPostRepositoryWithCorrectParameters() {
         // Given
@@ -94,19 +160,31 @@ class LlmServiceTest {
     }
 
     @Test
-    void generateSummary_IsTransactional() {
-        // The @Transactional annotation on generateSummary method ensures database consistency
-        // This test verifies the method exists and can be called
-        // In a real Spring context, the transaction would be handled automatically
+    void generateSummary_IsNotTransactional() throws NoSuchMethodException {
+        // The model call takes seconds, so generateSummary must not hold a pooled connection for it.
+        // Cache lookups and example reads use their own short repository transactions instead.
+        var method = LlmService.class.getMethod("generateSummary", String.class);
 
-        String inputText = "테스트";
+        assertNull(method.getAnnotation(org.springframework.transaction.annotation.Transactional.class));
+        assertNull(method.getAnnotation(jakarta.transaction.Transactional.class));
+        assertNull(LlmService.class.getAnnotation(org.springframework.transaction.annotation.Transactional.class));
+    }
+
+    @Test
+    void generateSummary_ReusesExamplesUntilPostChanges() {
+        // Given
         when(postRepository.findRecentSummaries(5)).thenReturn(Collections.emptyList());
         when(chatClient.prompt()).thenReturn(null);
 
-        assertThrows(NullPointerException.class, () -> llmService.generateSummary(inputText));
+        // When: two different drafts only read the examples once
+        assertThrows(NullPointerException.class, () -> llmService.generateSummary("첫 번째 초안"));
+        assertThrows(NullPointerException.class, () -> llmService.generateSummary("두 번째 초안"));
+        verify(postRepository, times(1)).findRecentSummaries(5);
 
-        // Verify the method execution reaches the repository call
-        verify(postRepository).findRecentSummaries(5);
+        // Then: a post change refreshes them eagerly
+        llmService.onPostChanged(new PostChangedEvent(1));
+        assertThrows(NullPointerException.class, () -> llmService.generateSummary("세 번째 초안"));
+        verify(postRepository, times(2)).findRecentSummaries(5);
     }
 
     @Test
@@ -142,4 +220,177 @@ class LlmServiceTest {
         verify(postRepository, never()).findRecentSummaries(1);
         verify(postRepository, never()).findRecentSummaries(10);
     }
-}
\ No newline at end of file
+
+    @Test
+    void generateSummary_ReturnsCachedSummaryWithoutCallingModel() {
+        // Given
+        when(summaryCacheRepository.findById(anyString()))
+                .thenReturn(Optional.of(SummaryCache.builder().summary("저장된 요약").build()));
+
+        // When
+        String summary = llmService.generateSummary("같은 초안");
+
+        // Then
+        assertEquals("저장된 요약", summary);
+        verify(chatClient, never()).prompt();
+        verify(postRepository, never()).findRecentSummaries(anyInt());
+        assertEquals(1.0, cacheCount("hit"));
+    }
+
+    @Test
+    void generateSummary_StoresSummaryUnderStableKey() {
+        // Given
+        CountDownLatch released = new CountDownLatch(0);
+        ChatClient client = answeringChatClient("새 요약", new CountDownLatch(1), released);
+        llmService = newService(client, new MarkdownChunker(6000, 3000));
+        when(postRepository.findRecentSummaries(5)).thenReturn(Collections.emptyList());
+
+        // When
+        llmService.generateSummary("초안");
+        llmService.generateSummary("초안");
+
+        // Then: both misses look up and store the same key, derived from text and model options
+        verify(summaryCacheRepository, times(2)).save(argThat(entry ->
+                entry.getSummary().equals("새 요약") && entry.getModel().equals("gpt-4.1-nano")));
+        List<String> keys = mockingDetails(summaryCacheRepository).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("findById"))
+                .map(invocation -> (String) invocation.getArgument(0))
+                .toList();
+        assertEquals(2, keys.size());
+        assertEquals(keys.get(0), keys.get(1));
+        assertEquals(64, keys.get(0).length());
+        assertEquals(2.0, cacheCount("miss"));
+    }
+
+    @Test
+    void generateSummary_CoalescesConcurrentIdenticalRequests() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ChatClient client = answeringChatClient("합쳐진 요약", started, release);
+        llmService = newService(client, new MarkdownChunker(6000, 3000));
+        when(postRepository.findRecentSummaries(5)).thenReturn(Collections.emptyList());
+
+        // When
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> llmService.generateSummary("동시 초안"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> llmService.generateSummary("동시 초안"));
+        while (cacheCount("coalesced") < 1) {
+            Thread.sleep(10);
+        }
+        release.countDown();
+
+        // Then
+        assertEquals("합쳐진 요약", first.get(5, TimeUnit.SECONDS));
+        assertEquals("합쳐진 요약", second.get(5, TimeUnit.SECONDS));
+        verify(postRepository, times(1)).findRecentSummaries(5);
+        verify(summaryCacheRepository, times(1)).save(any());
+    }
+
+    @Test
+    void streamSummary_EmitsTokensAndCachesFullSummary() {
+        // Given: a local stub model streams the summary word by word
+        StubChatModel stubModel = new StubChatModel("짧은 글을 요약한 문장입니다.");
+        llmService = newService(ChatClient.builder(stubModel).build(), new MarkdownChunker(6000, 3000));
+        when(postRepository.findRecentSummaries(5)).thenReturn(Collections.emptyList());
+
+        // When
+        List<String> tokens = llmService.streamSummary("스트리밍 초안").collectList().block();
+
+        // Then
+        assertNotNull(tokens);
+        assertEquals(List.of("짧은", " 글을", " 요약한", " 문장입니다."), tokens);
+        assertEquals(1, stubModel.calls());
+        verify(summaryCacheRepository).save(argThat(entry -> entry.getSummary().equals("짧은 글을 요약한 문장입니다.")));
+        assertEquals(1, meterRegistry.get("llm.ttft").tag("model", "gpt-4.1-nano").timer().count());
+        assertTrue(meterRegistry.get("llm.tokens.completion").tag("model", "gpt-4.1-nano").summary().totalAmount() > 0);
+    }
+
+    @Test
+    void streamSummary_ServesCachedSummaryAsSingleEvent() {
+        // Given
+        when(summaryCacheRepository.findById(anyString()))
+                .thenReturn(Optional.of(SummaryCache.builder().summary("저장된 요약").build()));
+
+        // When
+        List<String> tokens = llmService.streamSummary("같은 초안").collectList().block();
+
+        // Then
+        assertEquals(List.of("저장된 요약"), tokens);
+        verify(chatClient, never()).prompt();
+    }
+
+    @Test
+    void generateSummary_LongPostIsSummarizedInParallelChunks() {
+        // Given: every stub call takes 200ms; four sections exceed the single-shot budget
+        Duration latency = Duration.ofMillis(200);
+        List<String> reduceInputs = new java.util.concurrent.CopyOnWriteArrayList<>();
+        StubChatModel stubModel = new StubChatModel(prompt -> {
+            String contents = prompt.getContents();
+            if (contents.contains("글의 일부")) {
+                return "부분 요약";
+            }
+            reduceInputs.add(contents);
+            return "최종 요약";
+        }, latency);
+        llmService = newService(ChatClient.builder(stubModel).build(), new MarkdownChunker(50, 40));
+        when(postRepository.findRecentSummaries(5)).thenReturn(Collections.emptyList());
+
+        String section = "this section explains one idea in enough words to fill a chunk. ".repeat(2);
+        String post = "# One\n" + section + "\n# Two\n" + section + "\n# Three\n" + section + "\n# Four\n" + section;
+
+        // When
+        long started = System.nanoTime();
+        String summary = llmService.generateSummary(post);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        // Then: 4 map calls run concurrently, followed by one reduce call over the partial summaries
+        assertEquals("최종 요약", summary);
+        assertEquals(5, stubModel.calls());
+        assertEquals(1, reduceInputs.size());
+        assertTrue(reduceInputs.get(0).contains("[4/4] 부분 요약"));
+        assertTrue(elapsed.compareTo(latency.multipliedBy(4)) < 0,
+                "expected map calls to overlap, took " + elapsed.toMillis() + "ms");
+        assertEquals(1, meterRegistry.get("llm.summary.latency").tag("mode", "chunked").timer().count());
+    }
+
+    @Test
+    void generateSummary_LongPostWaitsForPermitsInsteadOfRejectingChunks() {
+        // Given: only one model call may run at a time, but the post is split into four chunks
+        llmCallGuard.shutdown();
+        llmCallGuard = new LlmCallGuard(meterRegistry, 1, 0, 30_000, "", 1000, false);
+        StubChatModel stubModel = new StubChatModel(prompt ->
+                prompt.getContents().contains("글의 일부") ? "부분 요약" : "최종 요약", Duration.ofMillis(50));
+        llmService = newService(ChatClient.builder(stubModel).build(), new MarkdownChunker(50, 40));
+        when(postRepository.findRecentSummaries(5)).thenReturn(Collections.emptyList());
+
+        String section = "this section explains one idea in enough words to fill a chunk. ".repeat(2);
+        String post = "# One\n" + section + "\n# Two\n" + section + "\n# Three\n" + section + "\n# Four\n" + section;
+
+        // When
+        String summary = llmService.generateSummary(post);
+
+        // Then: chunk calls queue on the bulkhead instead of failing the whole summary with a 429
+        assertEquals("최종 요약", summary);
+        assertEquals(5, stubModel.calls());
+        assertEquals(0, meterRegistry.get("llm.calls").tag("outcome", "rejected").counter().count());
+    }
+
+    @Test
+    void generateSummary_ShortPostUsesSingleCall() {
+        // Given
+        StubChatModel stubModel = new StubChatModel("짧은 요약");
+        llmService = newService(ChatClient.builder(stubModel).build(), new MarkdownChunker(6000, 3000));
+        when(postRepository.findRecentSummaries(5)).thenReturn(Collections.emptyList());
+
+        // When
+        String summary = llmService.generateSummary("# 제목\n짧은 본문입니다.");
+
+        // Then
+        assertEquals("짧은 요약", summary);
+        assertEquals(1, stubModel.calls());
+        assertEquals(1, meterRegistry.get("llm.summary.latency").tag("mode", "single").timer().count());
+        assertEquals(1, meterRegistry.get("llm.latency").tag("model", "gpt-4.1-nano").tag("mode", "call").timer().count());
+        assertEquals(1, meterRegistry.get("llm.tokens.prompt").tag("model", "gpt-4.1-nano").summary().count());
+    }
+}
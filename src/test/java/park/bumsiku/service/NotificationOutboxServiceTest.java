@@ -0,0 +1,155 @@
+package park.bumsiku.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import park.bumsiku.domain.entity.NotificationOutbox;
+import park.bumsiku.repository.NotificationOutboxRepository;
+import park.bumsiku.utils.integration.DiscordWebhookCreator;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxServiceTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-06-01T00:00:00Z"), ZoneId.of("Asia/Seoul"));
+
+    @Mock
+    private NotificationOutboxRepository outboxRepository;
+
+    @Mock
+    private DiscordWebhookCreator discord;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private NotificationOutboxService notificationOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        notificationOutboxService = new NotificationOutboxService(outboxRepository, discord, CLOCK, meterRegistry, 2);
+    }
+
+    private static NotificationOutbox row(long id, String message, LocalDateTime createdAt) {
+        return NotificationOutbox.builder().id(id).message(message).createdAt(createdAt).build();
+    }
+
+    private double lag() {
+        return meterRegistry.get("notification.outbox.lag").gauge().value();
+    }
+
+    @Test
+    @DisplayName("enqueue: 발송하지 않고 아웃박스에 행만 기록")
+    void enqueue_shouldOnlyWriteOutboxRow() {
+        notificationOutboxService.enqueue("💬 댓글 알림");
+
+        verify(outboxRepository).save(argThat(row ->
+                row.getMessage().equals("💬 댓글 알림") && row.getCreatedAt().equals(LocalDateTime.now(CLOCK))));
+        verifyNoInteractions(discord);
+    }
+
+    @Test
+    @DisplayName("enqueue: 지연 게이지는 트랜잭션이 커밋된 뒤에만 반영하고, 롤백되면 반영하지 않음")
+    void enqueue_shouldReportLagOnlyAfterCommit() {
+        MutableClock clock = new MutableClock(Instant.parse("2025-06-01T00:00:00Z"));
+        meterRegistry = new SimpleMeterRegistry();
+        notificationOutboxService = new NotificationOutboxService(outboxRepository, discord, clock, meterRegistry, 2);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            notificationOutboxService.enqueue("롤백될 알림");
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        clock.advance(Duration.ofSeconds(30));
+        assertThat(lag()).isZero();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            notificationOutboxService.enqueue("커밋될 알림");
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        clock.advance(Duration.ofSeconds(30));
+        assertThat(lag()).isEqualTo(30.0);
+    }
+
+    @Test
+    @DisplayName("relay: 오래된 행부터 묶어 보내고 보낸 행만 삭제")
+    void relay_shouldDeliverBatchesAndDeleteDelivered() {
+        LocalDateTime now = LocalDateTime.now(CLOCK);
+        when(outboxRepository.findAllByOrderByIdAsc(any()))
+                .thenReturn(List.of(row(1L, "a", now), row(2L, "b", now)))
+                .thenReturn(List.of(row(3L, "c", now)));
+        when(discord.deliver(any())).thenReturn(true);
+        when(outboxRepository.findFirstByOrderByIdAsc()).thenReturn(Optional.empty());
+
+        notificationOutboxService.relay();
+
+        verify(discord).deliver(List.of("a", "b"));
+        verify(discord).deliver(List.of("c"));
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(3L));
+        assertThat(lag()).isZero();
+    }
+
+    @Test
+    @DisplayName("relay: 발송에 실패하면 행을 남기고 지연 게이지에 가장 오래된 알림의 대기 시간을 노출")
+    void relay_deliveryFailure_shouldKeepRowsAndReportLag() {
+        LocalDateTime queuedAt = LocalDateTime.now(CLOCK).minusSeconds(90);
+        when(outboxRepository.findAllByOrderByIdAsc(any())).thenReturn(List.of(row(1L, "a", queuedAt)));
+        when(discord.deliver(any())).thenReturn(false);
+        when(outboxRepository.findFirstByOrderByIdAsc()).thenReturn(Optional.of(row(1L, "a", queuedAt)));
+
+        notificationOutboxService.relay();
+
+        verify(outboxRepository, never()).deleteAllByIdInBatch(any());
+        assertThat(lag()).isEqualTo(90.0);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("Asia/Seoul");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -1,13 +1,17 @@
 package park.bumsiku.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 import park.bumsiku.domain.dto.request.CreatePostRequest;
 import park.bumsiku.domain.dto.request.UpdatePostRequest;
@@ -15,14 +19,29 @@ import park.bumsiku.domain.dto.response.PostResponse;
 import park.bumsiku.domain.dto.response.UploadImageResponse;
 import park.bumsiku.domain.entity.Comment;
 import park.bumsiku.domain.entity.Post;
+import park.bumsiku.domain.entity.StoredImage;
+import park.bumsiku.domain.event.PostChangedEvent;
 import park.bumsiku.repository.CommentRepository;
 import park.bumsiku.repository.ImageRepository;
+import park.bumsiku.repository.ImageUpload;
 import park.bumsiku.repository.PostRepository;
-
+import park.bumsiku.repository.StoredImageRepository;
+import park.bumsiku.utils.datasource.ReplicaRoutingDataSource;
+import park.bumsiku.utils.exceptions.TooManyRequestsException;
+import park.bumsiku.utils.image.ImageDecoder;
+import park.bumsiku.utils.image.ImagePlaceholderGenerator;
+import park.bumsiku.utils.image.ImageProcessingExecutor;
+import park.bumsiku.utils.image.ImageVariantEncoder;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -46,6 +65,25 @@ public class PrivateServiceTest {
     @Mock
     private TagService tagService;
 
+    @Mock
+    private StoredImageRepository storedImageRepository;
+
+    @Spy
+    private ImageVariantEncoder imageVariantEncoder = new ImageVariantEncoder(new int[]{100, 200});
+
+    @Spy
+    private ImageDecoder imageDecoder = new ImageDecoder(40_000_000L, 2560, 16383);
+
+    @Spy
+    private ImageProcessingExecutor imageProcessingExecutor =
+            new ImageProcessingExecutor(new SimpleMeterRegistry(), 2, 16, "abort");
+
+    @Spy
+    private ImagePlaceholderGenerator imagePlaceholderGenerator = new ImagePlaceholderGenerator();
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private PrivateService privateService;
 
@@ -197,7 +235,7 @@ public class PrivateServiceTest {
     @Test
     @DisplayName("uploadImage: 유효한 MultipartFile 을 WebP 로 변환 후 저장하고 URL 반환")
     void uploadImage_validImage_shouldConvertAndReturnUrl() throws Exception {
-        // given: 테스트 리소스 로드
+        // given: 테스트 리소스 로드 (275px 너비)
         try (InputStream in = getClass().getResourceAsStream("/images.jpeg")) {
             assertThat(in).as("테스트용 이미지(images.jpeg)가 resources 루트에 있어야 합니다").isNotNull();
             byte[] originalBytes = in.readAllBytes();
@@ -207,21 +245,247 @@ public class PrivateServiceTest {
                     "image/jpeg",
                     originalBytes
             );
-            when(imageRepository.insert(anyString(), any(byte[].class)))
-                    .thenReturn("test-url");
+            when(imageRepository.openUpload(anyString()))
+                    .thenAnswer(invocation -> new InMemoryUpload("test-url/" + invocation.getArgument(0)));
 
             // when
             UploadImageResponse response = privateService.uploadImage(multipartFile);
 
             // then
             assertThat(response).isNotNull();
-            assertThat(response.getUrl()).isEqualTo("test-url");
+            assertThat(response.getUrl()).startsWith("test-url/").endsWith(".webp");
             assertThat(response.getSize()).isGreaterThan(0);
+            assertThat(response.getWidth()).isEqualTo(275);
+            assertThat(response.getHeight()).isEqualTo(183);
+            assertThat(response.getPlaceholder()).startsWith("data:image/webp;base64,");
+
+            verify(imageRepository, times(3)).openUpload(
+                    argThat(name -> name.toLowerCase().endsWith(".webp"))
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("uploadImage: 원본보다 작은 너비마다 변형을 만들고 srcset 을 반환")
+    void uploadImage_validImage_shouldReturnResponsiveVariants() throws Exception {
+        try (InputStream in = getClass().getResourceAsStream("/images.jpeg")) {
+            MultipartFile multipartFile = new MockMultipartFile(
+                    "image",
+                    "images.jpeg",
+                    "image/jpeg",
+                    in.readAllBytes()
+            );
+            when(imageRepository.openUpload(anyString()))
+                    .thenAnswer(invocation -> new InMemoryUpload("test-url/" + invocation.getArgument(0)));
+
+            UploadImageResponse response = privateService.uploadImage(multipartFile);
+
+            assertThat(response.getVariants())
+                    .extracting("width")
+                    .containsExactly(100, 200, 275);
+            assertThat(response.getVariants().get(0).getUrl()).endsWith("-100w.webp");
+            assertThat(response.getVariants().get(2).getUrl()).isEqualTo(response.getUrl());
+            assertThat(response.getSrcset())
+                    .contains("-100w.webp 100w")
+                    .contains("-200w.webp 200w")
+                    .endsWith(".webp 275w");
+        }
+    }
 
-            verify(imageRepository, times(1)).insert(
-                    argThat(name -> name.toLowerCase().endsWith(".webp")),
-                    any(byte[].class)
+    @Test
+    @DisplayName("uploadImage: 이미 업로드된 원본이면 변환/업로드 없이 기존 URL 반환")
+    void uploadImage_duplicateSource_shouldReuseStoredImage() throws Exception {
+        try (InputStream in = getClass().getResourceAsStream("/images.jpeg")) {
+            MultipartFile multipartFile = new MockMultipartFile(
+                    "image",
+                    "images.jpeg",
+                    "image/jpeg",
+                    in.readAllBytes()
+            );
+            StoredImage small = StoredImage.builder()
+                    .storageKey("abc-100w.webp").url("test-url/abc-100w.webp").width(100).size(10).build();
+            StoredImage original = StoredImage.builder()
+                    .storageKey("abc.webp").url("test-url/abc.webp").width(275).size(30).build();
+            when(storedImageRepository.findAllBySourceHashOrderByWidthAsc(anyString()))
+                    .thenReturn(List.of(small, original));
+
+            UploadImageResponse response = privateService.uploadImage(multipartFile);
+
+            assertThat(response.getUrl()).isEqualTo("test-url/abc.webp");
+            assertThat(response.getSize()).isEqualTo(30);
+            assertThat(response.getVariants()).hasSize(2);
+            verify(imageRepository, never()).openUpload(anyString());
+            verify(imageVariantEncoder, never()).encode(any(), anyInt(), any());
+            verify(storedImageRepository).touchBySourceHash(anyString(), any(LocalDateTime.class));
+        }
+    }
+
+    @Test
+    @DisplayName("uploadImage: 읽기 전용 트랜잭션 안에서도 중복 조회는 원본 DB 로 보냄")
+    void uploadImage_duplicateLookup_shouldReadFromPrimary() throws Exception {
+        try (InputStream in = getClass().getResourceAsStream("/images.jpeg")) {
+            MultipartFile multipartFile = new MockMultipartFile(
+                    "image",
+                    "images.jpeg",
+                    "image/jpeg",
+                    in.readAllBytes()
             );
+            DataSource primary = mock(DataSource.class);
+            DataSource replica = mock(DataSource.class);
+            ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replica);
+            StoredImage original = StoredImage.builder()
+                    .storageKey("abc.webp").url("test-url/abc.webp").width(275).size(30).build();
+            when(storedImageRepository.findAllBySourceHashOrderByWidthAsc(anyString())).thenAnswer(invocation -> {
+                // Spring Data 의 기본 읽기 전용 트랜잭션을 흉내냄
+                TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+                try {
+                    routing.getConnection();
+                } finally {
+                    TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+                }
+                return List.of(original);
+            });
+
+            privateService.uploadImage(multipartFile);
+
+            verify(primary).getConnection();
+            verifyNoInteractions(replica);
+        }
+    }
+
+    @Test
+    @DisplayName("uploadImage: 인코딩 결과가 이미 저장돼 있으면 기존 객체를 재사용하고 사본은 삭제")
+    void uploadImage_duplicateContent_shouldReuseExistingObject() throws Exception {
+        try (InputStream in = getClass().getResourceAsStream("/images.jpeg")) {
+            MultipartFile multipartFile = new MockMultipartFile(
+                    "image",
+                    "images.jpeg",
+                    "image/jpeg",
+                    in.readAllBytes()
+            );
+            when(imageRepository.openUpload(anyString()))
+                    .thenAnswer(invocation -> new InMemoryUpload("test-url/" + invocation.getArgument(0)));
+            StoredImage sameContent = StoredImage.builder()
+                    .storageKey("existing.webp").url("test-url/existing.webp").width(275).size(30).build();
+            when(storedImageRepository.findFirstByContentHash(anyString()))
+                    .thenReturn(Optional.of(sameContent));
+
+            UploadImageResponse response = privateService.uploadImage(multipartFile);
+
+            assertThat(response.getUrl()).isEqualTo("test-url/existing.webp");
+            verify(imageRepository, times(3)).delete(argThat(key -> !key.equals("existing.webp")));
+            verify(storedImageRepository).saveAll(anyList());
+        }
+    }
+
+    @Test
+    @DisplayName("uploadImage: 변형 제출 도중 대기열이 가득 차면 이미 올라간 변형을 삭제하고 429")
+    void uploadImage_queueSaturatedMidway_shouldDeleteUploadedVariants() throws Exception {
+        try (InputStream in = getClass().getResourceAsStream("/images.jpeg")) {
+            MultipartFile multipartFile = new MockMultipartFile(
+                    "image",
+                    "images.jpeg",
+                    "image/jpeg",
+                    in.readAllBytes()
+            );
+            when(imageRepository.openUpload(anyString()))
+                    .thenAnswer(invocation -> new InMemoryUpload("test-url/" + invocation.getArgument(0)));
+            // 디코딩, 미리보기, 100w 변형까지는 제출되고 200w 변형에서 거절
+            AtomicInteger submitted = new AtomicInteger();
+            doAnswer(invocation -> {
+                if (submitted.incrementAndGet() == 4) {
+                    throw new TooManyRequestsException("이미지 처리 대기열이 가득 찼습니다");
+                }
+                return invocation.callRealMethod();
+            }).when(imageProcessingExecutor).submit(any());
+
+            assertThatThrownBy(() -> privateService.uploadImage(multipartFile))
+                    .isInstanceOf(TooManyRequestsException.class);
+
+            verify(imageRepository).openUpload(argThat(key -> key.endsWith("-100w.webp")));
+            verify(imageRepository).deleteAll(argThat(keys ->
+                    keys.size() == 1 && keys.iterator().next().endsWith("-100w.webp")));
+            verify(storedImageRepository, never()).saveAll(anyList());
+        }
+    }
+
+    @Test
+    @DisplayName("uploadImage: 미리보기 생성이 실패하면 이미 올라간 변형을 모두 삭제")
+    void uploadImage_placeholderFails_shouldDeleteUploadedVariants() throws Exception {
+        try (InputStream in = getClass().getResourceAsStream("/images.jpeg")) {
+            MultipartFile multipartFile = new MockMultipartFile(
+                    "image",
+                    "images.jpeg",
+                    "image/jpeg",
+                    in.readAllBytes()
+            );
+            when(imageRepository.openUpload(anyString()))
+                    .thenAnswer(invocation -> new InMemoryUpload("test-url/" + invocation.getArgument(0)));
+            doThrow(new IllegalStateException("placeholder encoder failed"))
+                    .when(imagePlaceholderGenerator).generate(any());
+
+            assertThatThrownBy(() -> privateService.uploadImage(multipartFile))
+                    .isInstanceOf(RuntimeException.class);
+
+            verify(imageRepository).deleteAll(argThat(keys -> keys.size() == 3));
+            verify(storedImageRepository, never()).saveAll(anyList());
+        }
+    }
+
+    @Test
+    @DisplayName("uploadImage: 저장된 크기는 스트리밍된 인코딩 결과의 바이트 수")
+    void uploadImage_shouldRecordStreamedSize() throws Exception {
+        try (InputStream in = getClass().getResourceAsStream("/images.jpeg")) {
+            MultipartFile multipartFile = new MockMultipartFile(
+                    "image",
+                    "images.jpeg",
+                    "image/jpeg",
+                    in.readAllBytes()
+            );
+            List<InMemoryUpload> uploads = new CopyOnWriteArrayList<>();
+            when(imageRepository.openUpload(anyString())).thenAnswer(invocation -> {
+                InMemoryUpload upload = new InMemoryUpload("test-url/" + invocation.getArgument(0));
+                uploads.add(upload);
+                return upload;
+            });
+
+            UploadImageResponse response = privateService.uploadImage(multipartFile);
+
+            InMemoryUpload original = uploads.stream()
+                    .filter(upload -> upload.url.equals(response.getUrl()))
+                    .findFirst()
+                    .orElseThrow();
+            assertThat(original.completed).isTrue();
+            assertThat(response.getSize()).isEqualTo(original.bytes.size());
+        }
+    }
+
+    /**
+     * 저장소 대신 메모리에 기록하는 테스트용 업로드 핸들
+     */
+    private static class InMemoryUpload extends ImageUpload {
+        private final String url;
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private volatile boolean completed;
+
+        private InMemoryUpload(String url) {
+            this.url = url;
+        }
+
+        @Override
+        public void write(int b) {
+            bytes.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes.write(b, off, len);
+        }
+
+        @Override
+        public String complete() {
+            completed = true;
+            return url;
         }
     }
 
@@ -264,6 +528,7 @@ public class PrivateServiceTest {
 
         // Verify the mock was called
         verify(postRepository).insert(any(Post.class));
+        verify(eventPublisher).publishEvent(any(PostChangedEvent.class));
     }
 
     @Test
@@ -301,6 +566,7 @@ public class PrivateServiceTest {
         verify(commentRepository).findAllByPost(post);
         verify(commentRepository).deleteById(commentId);
         verify(postRepository).delete(postId);
+        verify(eventPublisher).publishEvent(new PostChangedEvent(postId));
     }
 
     @Test
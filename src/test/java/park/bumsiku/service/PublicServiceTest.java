@@ -7,13 +7,19 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import park.bumsiku.domain.dto.request.CommentRequest;
 import park.bumsiku.domain.dto.response.CommentResponse;
+import park.bumsiku.domain.dto.response.ImageMetadataResponse;
 import park.bumsiku.domain.dto.response.PostResponse;
 import park.bumsiku.domain.entity.Comment;
 import park.bumsiku.domain.entity.Post;
+import park.bumsiku.domain.entity.StoredImage;
+import park.bumsiku.domain.entity.Tag;
 import park.bumsiku.repository.CommentRepository;
+import park.bumsiku.repository.PostPage;
 import park.bumsiku.repository.PostRepository;
+import park.bumsiku.repository.StoredImageRepository;
 import park.bumsiku.repository.TagRepository;
-import park.bumsiku.utils.integration.DiscordWebhookCreator;
+import park.bumsiku.utils.paging.CountMode;
+import park.bumsiku.utils.paging.PostCountCache;
 import park.bumsiku.utils.sorting.SortCriteria;
 
 import java.time.LocalDateTime;
@@ -42,11 +48,17 @@ public class PublicServiceTest {
 
 
     @Mock
-    private DiscordWebhookCreator discord;
+    private NotificationOutboxService notificationOutboxService;
 
     @Mock
     private park.bumsiku.utils.sorting.PostSortBuilder postSortBuilder;
 
+    @Mock
+    private StoredImageRepository storedImageRepository;
+
+    @Mock
+    private PostCountCache postCountCache;
+
     private Post postMockData() {
         return Post.builder()
                 .id(1)
@@ -83,11 +95,10 @@ public class PublicServiceTest {
         List<Post> postList = List.of(postMockData());
         SortCriteria sortCriteria = new SortCriteria("createdAt", "ASC", "ORDER BY p.createdAt ASC");
         when(postSortBuilder.buildSortCriteria("asc")).thenReturn(sortCriteria);
-        when(postRepository.findAll(0, 10, "ORDER BY p.createdAt ASC")).thenReturn(postList);
-        when(postRepository.countAll()).thenReturn(1);
+        when(postRepository.findPageWithTotal(0, 10, "ORDER BY p.createdAt ASC")).thenReturn(new PostPage(postList, 1));
 
         // when
-        var result = publicService.getPostList(0, 10, "asc");
+        var result = publicService.getPostList(0, 10, "asc", CountMode.EXACT);
 
         // then
         assertThat(result.getContent())
@@ -198,6 +209,7 @@ public class PublicServiceTest {
                         commentRequest.getAuthor(),
                         commentRequest.getContent()
                 );
+        verify(notificationOutboxService).enqueue(contains(commentRequest.getAuthor()));
     }
 
     @Test
@@ -246,14 +258,13 @@ public class PublicServiceTest {
         List<Post> postList = List.of(postMockData());
         SortCriteria sortCriteria = new SortCriteria("views", "DESC", "ORDER BY p.views DESC");
         when(postSortBuilder.buildSortCriteria("views,desc")).thenReturn(sortCriteria);
-        when(postRepository.findAll(0, 10, "ORDER BY p.views DESC")).thenReturn(postList);
-        when(postRepository.countAll()).thenReturn(1);
+        when(postRepository.findPageWithTotal(0, 10, "ORDER BY p.views DESC")).thenReturn(new PostPage(postList, 1));
 
         // when
-        var result = publicService.getPostList(0, 10, "views,desc");
+        var result = publicService.getPostList(0, 10, "views,desc", CountMode.EXACT);
 
         // then
-        verify(postRepository).findAll(0, 10, "ORDER BY p.views DESC");
+        verify(postRepository).findPageWithTotal(0, 10, "ORDER BY p.views DESC");
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().get(0).getViews()).isEqualTo(5L);
     }
@@ -264,17 +275,85 @@ public class PublicServiceTest {
         List<Post> postList = List.of(postMockData());
         SortCriteria sortCriteria = new SortCriteria("createdAt", "ASC", "ORDER BY p.createdAt ASC");
         when(postSortBuilder.buildSortCriteria("createdAt,asc")).thenReturn(sortCriteria);
-        when(postRepository.findAll(0, 5, "ORDER BY p.createdAt ASC")).thenReturn(postList);
-        when(postRepository.countAll()).thenReturn(1);
+        when(postRepository.findPageWithTotal(0, 5, "ORDER BY p.createdAt ASC")).thenReturn(new PostPage(postList, 1));
 
         // when
-        var result = publicService.getPostList(0, 5, "createdAt,asc");
+        var result = publicService.getPostList(0, 5, "createdAt,asc", CountMode.EXACT);
 
         // then
-        verify(postRepository).findAll(0, 5, "ORDER BY p.createdAt ASC");
+        verify(postRepository).findPageWithTotal(0, 5, "ORDER BY p.createdAt ASC");
         assertThat(result.getContent()).hasSize(1);
     }
 
+    @Test
+    public void getPostListWithExactCountShouldRefreshCountEstimate() {
+        // given
+        SortCriteria sortCriteria = new SortCriteria("createdAt", "DESC", "ORDER BY p.createdAt DESC");
+        when(postSortBuilder.buildSortCriteria("createdAt,desc")).thenReturn(sortCriteria);
+        when(postRepository.findPageWithTotal(0, 10, "ORDER BY p.createdAt DESC"))
+                .thenReturn(new PostPage(List.of(postMockData()), 7));
+
+        // when
+        var result = publicService.getPostList(0, 10, "createdAt,desc", CountMode.EXACT);
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(7);
+        verify(postCountCache).put(null, 7);
+    }
+
+    @Test
+    public void getPostListWithCachedEstimateShouldSkipCounting() {
+        // given
+        SortCriteria sortCriteria = new SortCriteria("createdAt", "DESC", "ORDER BY p.createdAt DESC");
+        when(postSortBuilder.buildSortCriteria("createdAt,desc")).thenReturn(sortCriteria);
+        when(postCountCache.get(null)).thenReturn(42);
+        when(postRepository.findAll(0, 10, "ORDER BY p.createdAt DESC")).thenReturn(List.of(postMockData()));
+
+        // when
+        var result = publicService.getPostList(0, 10, "createdAt,desc", CountMode.ESTIMATE);
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(42);
+        verify(postRepository, never()).findPageWithTotal(anyInt(), anyInt(), anyString());
+        verify(postRepository, never()).countAll();
+    }
+
+    @Test
+    public void getPostListWithoutEstimateShouldCountInPageQuery() {
+        // given
+        SortCriteria sortCriteria = new SortCriteria("createdAt", "DESC", "ORDER BY p.createdAt DESC");
+        when(postSortBuilder.buildSortCriteria("createdAt,desc")).thenReturn(sortCriteria);
+        when(postCountCache.get(null)).thenReturn(null);
+        when(postRepository.findPageWithTotal(0, 10, "ORDER BY p.createdAt DESC"))
+                .thenReturn(new PostPage(List.of(postMockData()), 3));
+
+        // when
+        var result = publicService.getPostList(0, 10, "createdAt,desc", CountMode.ESTIMATE);
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        verify(postCountCache).put(null, 3);
+    }
+
+    @Test
+    public void getPostsByTagWithNoCountShouldLeaveTotalEmpty() {
+        // given
+        String tagName = "spring";
+        when(tagRepository.findByName(tagName)).thenReturn(Optional.of(Tag.builder().name(tagName).build()));
+        SortCriteria sortCriteria = new SortCriteria("createdAt", "DESC", "ORDER BY p.createdAt DESC");
+        when(postSortBuilder.buildSortCriteria("createdAt,desc")).thenReturn(sortCriteria);
+        when(postRepository.findAllByTagName(tagName, 0, 10, "ORDER BY p.createdAt DESC")).thenReturn(List.of(postMockData()));
+
+        // when
+        var result = publicService.getPostsByTag(tagName, 0, 10, "createdAt,desc", CountMode.NONE);
+
+        // then
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getTotalElements()).isNull();
+        verify(postRepository, never()).countByTagName(anyString());
+        verifyNoInteractions(postCountCache);
+    }
+
     @Test
     public void throwTagNotFoundExceptionWhenTagDoesNotExistForGetPostsByTag() {
         // given
@@ -282,12 +361,40 @@ public class PublicServiceTest {
         when(tagRepository.findByName(tagName)).thenReturn(Optional.empty());
 
         // then
-        assertThatThrownBy(() -> publicService.getPostsByTag(tagName, 0, 10, "createdAt,asc"))
+        assertThatThrownBy(() -> publicService.getPostsByTag(tagName, 0, 10, "createdAt,asc", CountMode.EXACT))
                 .isInstanceOf(NoSuchElementException.class);
 
         verify(postRepository, never()).findAllByTagName(anyString(), anyInt(), anyInt(), anyString());
-        verify(postRepository, never()).countByTagName(anyString());
+        verify(postRepository, never()).findPageWithTotalByTagName(anyString(), anyInt(), anyInt(), anyString());
+    }
+
+    @Test
+    public void getImageMetadataShouldReturnDimensionsAndPlaceholder() {
+        // given
+        StoredImage image = StoredImage.builder()
+                .url("https://cdn/a.webp")
+                .width(1280)
+                .height(720)
+                .placeholder("data:image/webp;base64,AAAA")
+                .build();
+        when(storedImageRepository.findFirstByUrl("https://cdn/a.webp")).thenReturn(Optional.of(image));
+
+        // when
+        ImageMetadataResponse result = publicService.getImageMetadata("https://cdn/a.webp");
+
+        // then
+        assertThat(result.getWidth()).isEqualTo(1280);
+        assertThat(result.getHeight()).isEqualTo(720);
+        assertThat(result.getPlaceholder()).isEqualTo("data:image/webp;base64,AAAA");
     }
 
+    @Test
+    public void throwNotFoundExceptionWhenImageMetadataDoesNotExist() {
+        // given
+        when(storedImageRepository.findFirstByUrl(anyString())).thenReturn(Optional.empty());
 
+        // then
+        assertThatThrownBy(() -> publicService.getImageMetadata("https://cdn/unknown.webp"))
+                .isInstanceOf(NoSuchElementException.class);
+    }
 }
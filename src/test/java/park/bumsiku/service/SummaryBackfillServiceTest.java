@@ -0,0 +1,209 @@
+package park.bumsiku.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.ai.retry.TransientAiException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.web.client.HttpClientErrorException;
+import park.bumsiku.domain.entity.SummaryBackfillJob;
+import park.bumsiku.domain.entity.SummaryBackfillJob.Status;
+import park.bumsiku.domain.event.PostChangedEvent;
+import park.bumsiku.repository.PostRepository;
+import park.bumsiku.repository.SummaryBackfillJobRepository;
+import park.bumsiku.utils.exceptions.TooManyRequestsException;
+import park.bumsiku.utils.validation.ArgumentValidatorImpl;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SummaryBackfillServiceTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-06-01T00:00:00Z"), ZoneId.of("Asia/Seoul"));
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private LlmService llmService;
+
+    @Mock
+    private SummaryBackfillJobRepository jobRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SummaryBackfillService summaryBackfillService;
+
+    @BeforeEach
+    void setUp() {
+        summaryBackfillService = new SummaryBackfillService(
+                postRepository, llmService, jobRepository, TransactionOperations.withoutTransaction(),
+                eventPublisher, CLOCK, new ArgumentValidatorImpl(40_000_000L), 2, 2, 60_000, 3, 1L, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        summaryBackfillService.shutdown();
+    }
+
+    private static SummaryBackfillJob job(int lastPostId) {
+        LocalDateTime now = LocalDateTime.now(CLOCK);
+        return SummaryBackfillJob.builder()
+                .id(1L)
+                .status(Status.RUNNING)
+                .lastPostId(lastPostId)
+                .startedAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    private static Object[] post(int id, String content) {
+        return new Object[]{id, content};
+    }
+
+    @Test
+    @DisplayName("run: 페이지 단위로 요약을 반영하고 페이지마다 체크포인트를 저장")
+    void run_shouldUpdateSummariesAndCheckpointEachPage() {
+        SummaryBackfillJob job = job(0);
+        when(postRepository.findContentsAfter(0, 2)).thenReturn(List.of(post(1, "본문1"), post(2, "본문2")));
+        when(postRepository.findContentsAfter(2, 2)).thenReturn(List.of(post(5, "본문5")));
+        when(postRepository.findContentsAfter(5, 2)).thenReturn(List.of());
+        when(llmService.generateSummary(anyString())).thenAnswer(invocation -> "요약-" + invocation.getArgument(0));
+        when(jobRepository.save(any(SummaryBackfillJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        summaryBackfillService.run(job);
+
+        verify(postRepository).updateSummary(1, "요약-본문1");
+        verify(postRepository).updateSummary(2, "요약-본문2");
+        verify(postRepository).updateSummary(5, "요약-본문5");
+        assertThat(job.getStatus()).isEqualTo(Status.COMPLETED);
+        assertThat(job.getLastPostId()).isEqualTo(5);
+        assertThat(job.getProcessedPosts()).isEqualTo(3);
+        assertThat(job.getFailedPosts()).isZero();
+        // 두 페이지 체크포인트 + 완료
+        verify(jobRepository, times(3)).save(job);
+        verify(eventPublisher).publishEvent(any(PostChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("run: 429 는 백오프 후 재시도하고, 재시도할 수 없는 오류는 해당 게시물만 건너뜀")
+    void run_shouldRetryRateLimitsAndSkipPermanentFailures() {
+        SummaryBackfillJob job = job(0);
+        when(postRepository.findContentsAfter(0, 2)).thenReturn(List.of(post(1, "본문1"), post(2, "본문2")));
+        when(postRepository.findContentsAfter(2, 2)).thenReturn(List.of());
+        when(llmService.generateSummary("본문1"))
+                .thenThrow(new TransientAiException("429 - Rate limit reached"))
+                .thenReturn("요약1");
+        when(llmService.generateSummary("본문2"))
+                .thenThrow(new NonTransientAiException("400 - context_length_exceeded"));
+        when(jobRepository.save(any(SummaryBackfillJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        summaryBackfillService.run(job);
+
+        verify(llmService, times(2)).generateSummary("본문1");
+        verify(llmService, times(1)).generateSummary("본문2");
+        verify(postRepository).updateSummary(1, "요약1");
+        verify(postRepository, never()).updateSummary(eq(2), anyString());
+        assertThat(job.getProcessedPosts()).isEqualTo(1);
+        assertThat(job.getFailedPosts()).isEqualTo(1);
+        assertThat(job.getLastPostId()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("isRetryable: 메시지에 429 가 들어 있는지가 아니라 예외 타입과 상태 코드로 판단")
+    void isRetryable_shouldMatchOnTypeAndStatus() {
+        assertThat(SummaryBackfillService.isRetryable(new TooManyRequestsException("요약 요청이 많습니다"))).isTrue();
+        assertThat(SummaryBackfillService.isRetryable(new TransientAiException("503 - overloaded"))).isTrue();
+        assertThat(SummaryBackfillService.isRetryable(
+                HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "slow down", null, null, null))).isTrue();
+        assertThat(SummaryBackfillService.isRetryable(new NonTransientAiException("429 - Rate limit reached"))).isTrue();
+        assertThat(SummaryBackfillService.isRetryable(
+                new IllegalStateException("wrapped", new TooManyRequestsException("요약 요청이 많습니다")))).isTrue();
+
+        assertThat(SummaryBackfillService.isRetryable(
+                new NonTransientAiException("400 - context_length_exceeded: 14290 tokens"))).isFalse();
+        assertThat(SummaryBackfillService.isRetryable(new IllegalStateException("post 429 not found"))).isFalse();
+        assertThat(SummaryBackfillService.isRetryable(
+                HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "request 429", null, null, null))).isFalse();
+    }
+
+    @Test
+    @DisplayName("run: 200자를 넘거나 비어 있는 요약은 반영하지 않고 실패로 집계")
+    void run_shouldSkipSummariesThatFailValidation() {
+        SummaryBackfillJob job = job(0);
+        when(postRepository.findContentsAfter(0, 2)).thenReturn(List.of(post(1, "본문1"), post(2, "본문2")));
+        when(postRepository.findContentsAfter(2, 2)).thenReturn(List.of(post(3, "본문3")));
+        when(postRepository.findContentsAfter(3, 2)).thenReturn(List.of());
+        when(llmService.generateSummary("본문1")).thenReturn("가".repeat(201));
+        when(llmService.generateSummary("본문2")).thenReturn("요약2");
+        when(llmService.generateSummary("본문3")).thenReturn("  ");
+        when(jobRepository.save(any(SummaryBackfillJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        summaryBackfillService.run(job);
+
+        verify(postRepository).updateSummary(2, "요약2");
+        verify(postRepository, never()).updateSummary(eq(1), anyString());
+        verify(postRepository, never()).updateSummary(eq(3), anyString());
+        assertThat(job.getStatus()).isEqualTo(Status.COMPLETED);
+        assertThat(job.getProcessedPosts()).isEqualTo(1);
+        assertThat(job.getFailedPosts()).isEqualTo(2);
+        assertThat(job.getLastPostId()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("start: resume 이면 완료되지 않은 마지막 작업을 체크포인트 다음부터 처리")
+    void start_resume_shouldContinueFromCheckpoint() {
+        SummaryBackfillJob interrupted = job(40);
+        interrupted.setProcessedPosts(40);
+        when(jobRepository.findFirstByOrderByIdDesc()).thenReturn(Optional.of(interrupted));
+        when(jobRepository.save(any(SummaryBackfillJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(postRepository.countAll()).thenReturn(50);
+        when(postRepository.findContentsAfter(40, 2)).thenReturn(List.of());
+
+        summaryBackfillService.start(true);
+
+        verify(postRepository, timeout(2000)).findContentsAfter(40, 2);
+        verify(eventPublisher, timeout(2000)).publishEvent(any(PostChangedEvent.class));
+        assertThat(interrupted.getProcessedPosts()).isEqualTo(40);
+        assertThat(interrupted.getTotalPosts()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("start: 이미 실행 중이면 TooManyRequestsException")
+    void start_whileRunning_shouldThrow() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        when(jobRepository.save(any(SummaryBackfillJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(postRepository.findContentsAfter(anyInt(), anyInt())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+
+        summaryBackfillService.start(false);
+
+        assertThatThrownBy(() -> summaryBackfillService.start(false))
+                .isInstanceOf(TooManyRequestsException.class);
+        release.countDown();
+        verify(eventPublisher, timeout(2000)).publishEvent(any(PostChangedEvent.class));
+    }
+}
@@ -13,6 +13,11 @@ import park.bumsiku.domain.dto.request.UpdatePostRequest;
 import park.bumsiku.utils.validation.ArgumentValidator;
 import park.bumsiku.utils.validation.ArgumentValidatorImpl;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -23,7 +28,7 @@ public class ArgumentValidatorImplTest extends AbstractTestSupport {
 
     @BeforeEach
     void setUp() {
-        validator = new ArgumentValidatorImpl();
+        validator = new ArgumentValidatorImpl(40_000_000L);
     }
 
     @Test
@@ -201,13 +206,13 @@ public class ArgumentValidatorImplTest extends AbstractTestSupport {
     }
 
     @Test
-    void testValidateImage() {
+    void testValidateImage() throws IOException {
         // Valid image
         MockMultipartFile validImage = new MockMultipartFile(
                 "image",
                 "test-image.jpg",
                 "image/jpeg",
-                new byte[1024] // 1KB
+                getClass().getResourceAsStream("/images.jpeg").readAllBytes()
         );
         assertDoesNotThrow(() -> validator.validateImage(validImage));
 
@@ -216,7 +221,7 @@ public class ArgumentValidatorImplTest extends AbstractTestSupport {
                 "image",
                 "test-image.png",
                 "image/png",
-                new byte[1024] // 1KB
+                pngHeader(100, 100)
         );
         assertDoesNotThrow(() -> validator.validateImage(validPngImage));
 
@@ -268,4 +273,56 @@ public class ArgumentValidatorImplTest extends AbstractTestSupport {
         Mockito.when(nullFilenameImage.getOriginalFilename()).thenReturn(null);
         assertThrows(IllegalArgumentException.class, () -> validator.validateImage(nullFilenameImage));
     }
+
+    @Test
+    void testValidateImageRejectsOversizedResolution() {
+        // 픽셀 데이터 없이 IHDR 헤더만 있는 20000x20000 PNG (4억 화소)
+        MockMultipartFile hugeImage = new MockMultipartFile(
+                "image",
+                "huge.png",
+                "image/png",
+                pngHeader(20_000, 20_000)
+        );
+        assertThrows(IllegalArgumentException.class, () -> validator.validateImage(hugeImage));
+    }
+
+    @Test
+    void testValidateImageRejectsUnknownDimensions() {
+        // 헤더로 크기를 알 수 없는 파일은 픽셀 한도를 확인할 수 없으므로 거절
+        MockMultipartFile unknownImage = new MockMultipartFile(
+                "image",
+                "unknown.jpg",
+                "image/jpeg",
+                new byte[1024]
+        );
+        assertThrows(IllegalArgumentException.class, () -> validator.validateImage(unknownImage));
+    }
+
+    @Test
+    void testValidateImageRejectsNegativeDimensions() {
+        // 부호 있는 32bit 로 읽으면 음수가 되는 너비를 가진 조작된 PNG 헤더
+        MockMultipartFile craftedImage = new MockMultipartFile(
+                "image",
+                "crafted.png",
+                "image/png",
+                pngHeader(Integer.MIN_VALUE, 20_000)
+        );
+        assertThrows(IllegalArgumentException.class, () -> validator.validateImage(craftedImage));
+    }
+
+    private static byte[] pngHeader(int width, int height) {
+        ByteBuffer ihdr = ByteBuffer.allocate(17);
+        ihdr.put("IHDR".getBytes(StandardCharsets.US_ASCII))
+                .putInt(width).putInt(height)
+                .put((byte) 8).put((byte) 6).put((byte) 0).put((byte) 0).put((byte) 0);
+        CRC32 crc = new CRC32();
+        crc.update(ihdr.array());
+
+        ByteBuffer png = ByteBuffer.allocate(8 + 4 + 17 + 4);
+        png.put(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'})
+                .putInt(13)
+                .put(ihdr.array())
+                .putInt((int) crc.getValue());
+        return png.array();
+    }
 }
@@ -0,0 +1,29 @@
+package park.bumsiku.utils.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ThreadFactoriesTest {
+
+    @Test
+    @DisplayName("named: 가상 스레드 모드면 이름 붙은 가상 스레드를 생성")
+    void named_virtual_shouldCreateVirtualThreads() {
+        Thread thread = ThreadFactories.named("llm-call-", true).newThread(() -> {
+        });
+
+        assertThat(thread.isVirtual()).isTrue();
+        assertThat(thread.getName()).isEqualTo("llm-call-1");
+    }
+
+    @Test
+    @DisplayName("named: 기본 모드면 플랫폼 스레드를 생성")
+    void named_platform_shouldCreatePlatformThreads() {
+        Thread thread = ThreadFactories.named("image-job-", false).newThread(() -> {
+        });
+
+        assertThat(thread.isVirtual()).isFalse();
+        assertThat(thread.getName()).isEqualTo("image-job-1");
+    }
+}
@@ -0,0 +1,74 @@
+package park.bumsiku.utils.datasource;
+
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadYourWritesFilterTest {
+
+    private final Clock clock = Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC);
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(clock, Duration.ofSeconds(5));
+
+    /**
+     * 요청 처리 중 읽기 전용 트랜잭션이 어느 쪽으로 가는지 기록합니다.
+     */
+    private List<ReplicaRoutingDataSource.Route> perform(String method, MockHttpSession session, int status) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/admin/posts");
+        request.setSession(session);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        List<ReplicaRoutingDataSource.Route> routes = new ArrayList<>();
+        filter.doFilter(request, response, new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest req, ServletResponse res) {
+                TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+                routes.add(ReplicaRoutingDataSource.currentRoute());
+                TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+                ((MockHttpServletResponse) res).setStatus(status);
+            }
+        });
+        return routes;
+    }
+
+    @Test
+    @DisplayName("doFilter: 쓰기 요청이 성공하면 같은 세션의 다음 읽기를 원본으로 보냄")
+    void doFilter_afterWrite_shouldPinSessionReadsToPrimary() throws Exception {
+        MockHttpSession session = new MockHttpSession();
+
+        assertThat(perform("GET", session, 200)).containsExactly(ReplicaRoutingDataSource.Route.REPLICA);
+        perform("PUT", session, 200);
+
+        assertThat(perform("GET", session, 200)).containsExactly(ReplicaRoutingDataSource.Route.PRIMARY);
+
+        // 요청이 끝나면 스레드 고정은 풀림
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(ReplicaRoutingDataSource.currentRoute()).isEqualTo(ReplicaRoutingDataSource.Route.REPLICA);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("doFilter: 실패한 쓰기 요청과 고정 시간이 지난 세션은 복제본을 사용")
+    void doFilter_failedOrExpiredWrite_shouldUseReplica() throws Exception {
+        MockHttpSession failed = new MockHttpSession();
+        perform("POST", failed, 400);
+        assertThat(perform("GET", failed, 200)).containsExactly(ReplicaRoutingDataSource.Route.REPLICA);
+
+        MockHttpSession expired = new MockHttpSession();
+        expired.setAttribute(ReadYourWritesFilter.PRIMARY_UNTIL_ATTRIBUTE, clock.millis());
+        assertThat(perform("GET", expired, 200)).containsExactly(ReplicaRoutingDataSource.Route.REPLICA);
+    }
+}
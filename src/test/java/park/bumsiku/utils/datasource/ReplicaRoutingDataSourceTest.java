@@ -0,0 +1,71 @@
+package park.bumsiku.utils.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replica = mock(DataSource.class);
+    private final ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replica);
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReplicaRoutingDataSource.unpin();
+    }
+
+    @Test
+    @DisplayName("getConnection: 읽기 전용 트랜잭션이면 복제본을 사용")
+    void getConnection_readOnlyTransaction_shouldUseReplica() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        routing.getConnection();
+
+        verify(replica).getConnection();
+        verifyNoInteractions(primary);
+    }
+
+    @Test
+    @DisplayName("getConnection: 쓰기 트랜잭션이면 원본을 사용")
+    void getConnection_readWriteTransaction_shouldUsePrimary() throws SQLException {
+        routing.getConnection();
+
+        verify(primary).getConnection();
+        verifyNoInteractions(replica);
+    }
+
+    @Test
+    @DisplayName("getConnection: 원본에 고정된 스레드는 읽기 전용이어도 원본을 사용")
+    void getConnection_pinnedToPrimary_shouldUsePrimary() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReplicaRoutingDataSource.pinToPrimary();
+
+        routing.getConnection();
+
+        verify(primary).getConnection();
+        verifyNoInteractions(replica);
+    }
+
+    @Test
+    @DisplayName("callOnPrimary: 작업 동안만 원본에 고정하고 바깥의 고정 상태는 유지")
+    void callOnPrimary_shouldRestorePreviousPin() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(ReplicaRoutingDataSource.callOnPrimary(ReplicaRoutingDataSource::currentRoute))
+                .isEqualTo(ReplicaRoutingDataSource.Route.PRIMARY);
+        assertThat(ReplicaRoutingDataSource.currentRoute()).isEqualTo(ReplicaRoutingDataSource.Route.REPLICA);
+
+        ReplicaRoutingDataSource.pinToPrimary();
+        ReplicaRoutingDataSource.runOnPrimary(() -> { });
+        assertThat(ReplicaRoutingDataSource.currentRoute()).isEqualTo(ReplicaRoutingDataSource.Route.PRIMARY);
+    }
+}
@@ -0,0 +1,164 @@
+package park.bumsiku.utils.image;
+
+import com.sksamuel.scrimage.ImmutableImage;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImageDecoderTest {
+
+    private final ImageDecoder decoder = new ImageDecoder(40_000_000L, 300, 400);
+
+    @Test
+    void decode_rejectsImageOverPixelBudgetFromHeaderOnly() {
+        // given - 픽셀 데이터 없이 IHDR 헤더만 있는 20000x20000 PNG
+        ByteArrayResource bomb = new ByteArrayResource(pngHeader(20_000, 20_000));
+
+        // when & then
+        assertThatThrownBy(() -> decoder.decode(bomb))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void decode_rejectsImageWithUnknownDimensions() {
+        // given - 헤더로 크기를 알 수 없는 데이터
+        ByteArrayResource unknown = new ByteArrayResource(new byte[1024]);
+
+        // when & then
+        assertThatThrownBy(() -> decoder.decode(unknown))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void decode_rejectsNegativeDimensionsFromHeader() {
+        // given - 너비가 음수로 읽히는 조작된 IHDR
+        ByteArrayResource crafted = new ByteArrayResource(pngHeader(Integer.MIN_VALUE, 20_000));
+
+        // when & then
+        assertThatThrownBy(() -> decoder.decode(crafted))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void decode_subsamplesLargeImageToMaxWidth() throws IOException {
+        // given
+        ByteArrayResource source = new ByteArrayResource(png(1000, 500));
+
+        // when
+        ImmutableImage image = decoder.decode(source);
+
+        // then
+        assertThat(image.width).isEqualTo(300);
+        assertThat(image.height).isEqualTo(150);
+    }
+
+    @Test
+    void decode_keepsImageWithinMaxWidth() throws IOException {
+        // given
+        ByteArrayResource source = new ByteArrayResource(png(200, 100));
+
+        // when
+        ImmutableImage image = decoder.decode(source);
+
+        // then
+        assertThat(image.width).isEqualTo(200);
+        assertThat(image.height).isEqualTo(100);
+    }
+
+    @Test
+    void decode_subsamplesTallImageToMaxHeight() throws IOException {
+        // given - 너비는 최대 너비 안이지만 높이가 최대 높이의 5배
+        ByteArrayResource source = new ByteArrayResource(png(200, 2000));
+
+        // when
+        ImmutableImage image = decoder.decode(source);
+
+        // then
+        assertThat(image.width).isEqualTo(40);
+        assertThat(image.height).isEqualTo(400);
+    }
+
+    @Test
+    void subsampleFactor_usesDimensionThatNeedsMoreReduction() {
+        assertThat(decoder.subsampleFactor(200, 100)).isEqualTo(1);
+        assertThat(decoder.subsampleFactor(500, 250)).isEqualTo(1);
+        assertThat(decoder.subsampleFactor(1000, 500)).isEqualTo(3);
+        assertThat(decoder.subsampleFactor(250, 1000)).isEqualTo(2);
+        assertThat(decoder.subsampleFactor(700, 2000)).isEqualTo(5);
+    }
+
+    @Test
+    void readHeader_readsJpegAndWebpDimensions() throws IOException {
+        // given
+        byte[] jpeg = getClass().getResourceAsStream("/images.jpeg").readAllBytes();
+        byte[] webp = webpExtendedHeader(4000, 3000);
+
+        // when
+        Optional<ImageDimensions> jpegDimensions = ImageHeaderReader.read(new ByteArrayInputStream(jpeg));
+        Optional<ImageDimensions> webpDimensions = ImageHeaderReader.read(new ByteArrayInputStream(webp));
+
+        // then
+        assertThat(jpegDimensions).contains(new ImageDimensions(275, 183));
+        assertThat(webpDimensions).contains(new ImageDimensions(4000, 3000));
+    }
+
+    @Test
+    void readHeader_returnsEmptyForUnknownFormat() throws IOException {
+        assertThat(ImageHeaderReader.read(new ByteArrayInputStream(new byte[1024]))).isEmpty();
+    }
+
+    @Test
+    void readHeader_returnsEmptyForNonPositiveDimensions() throws IOException {
+        assertThat(ImageHeaderReader.read(new ByteArrayInputStream(pngHeader(-1, 100)))).isEmpty();
+        assertThat(ImageHeaderReader.read(new ByteArrayInputStream(pngHeader(100, 0)))).isEmpty();
+    }
+
+    private static byte[] pngHeader(int width, int height) {
+        ByteBuffer ihdr = ByteBuffer.allocate(17);
+        ihdr.put("IHDR".getBytes(StandardCharsets.US_ASCII))
+                .putInt(width).putInt(height)
+                .put((byte) 8).put((byte) 6).put((byte) 0).put((byte) 0).put((byte) 0);
+        CRC32 crc = new CRC32();
+        crc.update(ihdr.array());
+
+        ByteBuffer png = ByteBuffer.allocate(8 + 4 + 17 + 4);
+        png.put(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'})
+                .putInt(13)
+                .put(ihdr.array())
+                .putInt((int) crc.getValue());
+        return png.array();
+    }
+
+    private static byte[] webpExtendedHeader(int width, int height) {
+        ByteBuffer webp = ByteBuffer.allocate(30);
+        webp.put("RIFF".getBytes(StandardCharsets.US_ASCII)).putInt(0)
+                .put("WEBP".getBytes(StandardCharsets.US_ASCII))
+                .put("VP8X".getBytes(StandardCharsets.US_ASCII)).put(new byte[]{10, 0, 0, 0})
+                .put(new byte[4])
+                .put(uint24(width - 1))
+                .put(uint24(height - 1));
+        return webp.array();
+    }
+
+    private static byte[] uint24(int value) {
+        return new byte[]{(byte) value, (byte) (value >> 8), (byte) (value >> 16)};
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,113 @@
+package park.bumsiku.utils.image;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageFileSenderTest {
+
+    @TempDir
+    Path root;
+
+    private final ImageFileSender sender = new ImageFileSender();
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = Files.writeString(root.resolve("key.webp"), "0123456789");
+    }
+
+    private MockHttpServletResponse send(MockHttpServletRequest request) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        sender.send(file, request, response);
+        return response;
+    }
+
+    @Test
+    @DisplayName("전체 파일을 FileChannel 로 전송하고 캐시 헤더를 설정")
+    void send_shouldWriteWholeFile() throws IOException {
+        MockHttpServletResponse response = send(new MockHttpServletRequest("GET", "/images/key.webp"));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo("0123456789");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNotBlank();
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+    }
+
+    @Test
+    @DisplayName("Range 요청은 206 과 요청 구간만 전송")
+    void send_withRange_shouldWritePartialContent() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/images/key.webp");
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+
+        MockHttpServletResponse response = send(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsString()).isEqualTo("2345");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 2-5/10");
+        assertThat(response.getContentLengthLong()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("파일 범위를 벗어난 Range 는 416")
+    void send_withUnsatisfiableRange_shouldReturn416() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/images/key.webp");
+        request.addHeader(HttpHeaders.RANGE, "bytes=20-");
+
+        MockHttpServletResponse response = send(request);
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+    }
+
+    @Test
+    @DisplayName("If-None-Match 가 일치하면 304 이고 본문을 보내지 않음")
+    void send_withMatchingEtag_shouldReturn304() throws IOException {
+        String etag = send(new MockHttpServletRequest("GET", "/images/key.webp")).getHeader(HttpHeaders.ETAG);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/images/key.webp");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+
+        MockHttpServletResponse response = send(request);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("If-Range 가 현재 ETag 와 다르면 Range 를 무시하고 전체 전송")
+    void send_withStaleIfRange_shouldIgnoreRange() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/images/key.webp");
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+        request.addHeader(HttpHeaders.IF_RANGE, "\"stale\"");
+
+        MockHttpServletResponse response = send(request);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo("0123456789");
+    }
+
+    @Test
+    @DisplayName("Tomcat sendfile 을 지원하면 본문을 쓰지 않고 전송을 위임")
+    void send_withSendfileSupport_shouldDelegateToConnector() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/images/key.webp");
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        request.addHeader(HttpHeaders.RANGE, "bytes=5-");
+
+        MockHttpServletResponse response = send(request);
+
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.filename")).isEqualTo(file.toAbsolutePath().toString());
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(5L);
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(10L);
+    }
+}
@@ -0,0 +1,30 @@
+package park.bumsiku.utils.image;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageFormatTest {
+
+    @Test
+    void negotiate_wildcardsAcceptWebp() {
+        assertThat(ImageFormat.negotiate("*/*", null)).isEqualTo(ImageFormat.WEBP);
+        assertThat(ImageFormat.negotiate("image/*", null)).isEqualTo(ImageFormat.WEBP);
+        assertThat(ImageFormat.negotiate("image/png,image/*;q=0.8,*/*;q=0.5", "on")).isEqualTo(ImageFormat.WEBP_COMPACT);
+    }
+
+    @Test
+    void negotiate_fallsBackToJpegOnlyWhenWebpExcluded() {
+        // 가장 구체적인 image/webp;q=0 이 와일드카드보다 우선
+        assertThat(ImageFormat.negotiate("image/webp;q=0,*/*", null)).isEqualTo(ImageFormat.JPEG);
+        assertThat(ImageFormat.negotiate("image/*;q=0,*/*", null)).isEqualTo(ImageFormat.JPEG);
+        assertThat(ImageFormat.negotiate("image/png,image/jpeg", null)).isEqualTo(ImageFormat.JPEG);
+        assertThat(ImageFormat.negotiate("not a media type", null)).isEqualTo(ImageFormat.JPEG);
+    }
+
+    @Test
+    void negotiate_explicitWebpOverridesExcludingWildcard() {
+        assertThat(ImageFormat.negotiate("image/webp;q=0.5,image/*;q=0", null)).isEqualTo(ImageFormat.WEBP);
+        assertThat(ImageFormat.negotiate("", null)).isEqualTo(ImageFormat.WEBP);
+    }
+}
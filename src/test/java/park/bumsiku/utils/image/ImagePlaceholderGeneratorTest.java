@@ -0,0 +1,52 @@
+package park.bumsiku.utils.image;
+
+import com.sksamuel.scrimage.ImmutableImage;
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImagePlaceholderGeneratorTest {
+
+    private final ImagePlaceholderGenerator generator = new ImagePlaceholderGenerator();
+
+    @Test
+    void generate_fitsColumnForVeryTallImage() throws IOException {
+        // given - 20px 로 줄여도 세로가 2000px 이 넘는 이미지
+        ImmutableImage tall = ImmutableImage.fromAwt(noise(100, 10_000));
+
+        // when
+        String placeholder = generator.generate(tall);
+
+        // then
+        assertThat(placeholder).startsWith("data:image/webp;base64,");
+        assertThat(placeholder.length()).isLessThanOrEqualTo(1000);
+    }
+
+    @Test
+    void generate_fitsColumnForNarrowTallImage() throws IOException {
+        // given - 너비는 이미 20px 이하지만 세로로 긴 이미지
+        ImmutableImage narrow = ImmutableImage.fromAwt(noise(10, 5_000));
+
+        // when
+        String placeholder = generator.generate(narrow);
+
+        // then
+        assertThat(placeholder).startsWith("data:image/webp;base64,");
+        assertThat(placeholder.length()).isLessThanOrEqualTo(1000);
+    }
+
+    private static BufferedImage noise(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(42);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, random.nextInt(0x1000000));
+            }
+        }
+        return image;
+    }
+}
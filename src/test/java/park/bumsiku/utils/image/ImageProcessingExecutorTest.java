@@ -0,0 +1,100 @@
+package park.bumsiku.utils.image;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import park.bumsiku.utils.exceptions.TooManyRequestsException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImageProcessingExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ImageProcessingExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("submit: 작업 결과를 반환하고 대기 시간을 기록한다")
+    void submit_shouldCompleteAndRecordQueueWait() {
+        executor = new ImageProcessingExecutor(meterRegistry, 1, 1, "abort");
+
+        String result = executor.submit(() -> "done").join();
+
+        assertThat(result).isEqualTo("done");
+        assertThat(meterRegistry.get("image.processing.queue.wait").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("submit: abort 정책에서 대기열이 가득 차면 TooManyRequestsException")
+    void submit_whenSaturatedWithAbort_shouldReject() throws Exception {
+        executor = new ImageProcessingExecutor(meterRegistry, 1, 1, "abort");
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        executor.submit(() -> {
+            started.countDown();
+            await(release);
+            return null;
+        });
+        started.await(5, TimeUnit.SECONDS);
+        executor.submit(() -> null);
+
+        assertThatThrownBy(() -> executor.submit(() -> null))
+                .isInstanceOf(TooManyRequestsException.class);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("submit: caller-runs 정책에서 대기열이 가득 차면 호출 스레드에서 실행한다")
+    void submit_whenSaturatedWithCallerRuns_shouldRunOnCaller() throws Exception {
+        executor = new ImageProcessingExecutor(meterRegistry, 1, 1, "caller-runs");
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        executor.submit(() -> {
+            started.countDown();
+            await(release);
+            return null;
+        });
+        started.await(5, TimeUnit.SECONDS);
+        executor.submit(() -> null);
+
+        CompletableFuture<Thread> ranOn = executor.submit(Thread::currentThread);
+
+        assertThat(ranOn.join()).isSameAs(Thread.currentThread());
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("recordEncode: 인코딩 시간과 입출력 바이트를 기록한다")
+    void recordEncode_shouldRecordMetrics() {
+        executor = new ImageProcessingExecutor(meterRegistry, 1, 1, "abort");
+
+        executor.recordBytesIn(1000);
+        executor.recordEncode(TimeUnit.MILLISECONDS.toNanos(5), 400);
+
+        assertThat(meterRegistry.get("image.processing.encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("image.processing.bytes").tag("direction", "in").summary().totalAmount())
+                .isEqualTo(1000);
+        assertThat(meterRegistry.get("image.processing.bytes").tag("direction", "out").summary().totalAmount())
+                .isEqualTo(400);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
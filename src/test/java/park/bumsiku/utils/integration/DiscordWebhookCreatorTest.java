@@ -0,0 +1,125 @@
+package park.bumsiku.utils.integration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class DiscordWebhookCreatorTest {
+
+    private static final String URL = "https://discord.example/webhook";
+
+    private final RestTemplate restTemplate = mock(RestTemplate.class);
+    private DiscordWebhookCreator discord;
+
+    @AfterEach
+    void tearDown() {
+        discord.shutdown();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> sentContents(int times) {
+        ArgumentCaptor<HttpEntity<Map<String, String>>> captor = ArgumentCaptor.forClass(HttpEntity.class);
+        verify(restTemplate, timeout(2000).times(times)).postForEntity(eq(URL), captor.capture(), eq(String.class));
+        return captor.getAllValues().stream().map(entity -> entity.getBody().get("content")).toList();
+    }
+
+    @Test
+    @DisplayName("sendMessage: 짧은 구간 안의 메시지는 하나의 웹훅 요청으로 합쳐 보냄")
+    void sendMessage_shouldCoalesceMessagesWithinWindow() {
+        when(restTemplate.postForEntity(eq(URL), any(), eq(String.class))).thenReturn(ResponseEntity.noContent().build());
+        discord = new DiscordWebhookCreator(restTemplate, URL, 10, 200);
+
+        discord.sendMessage("댓글 1");
+        discord.sendMessage("댓글 2");
+        discord.sendMessage("댓글 3");
+
+        assertThat(sentContents(1)).containsExactly("댓글 1\n\n댓글 2\n\n댓글 3");
+    }
+
+    @Test
+    @DisplayName("sendMessage: 429 응답이면 Retry-After 만큼 기다린 뒤 같은 내용을 다시 보냄")
+    void sendMessage_rateLimited_shouldRetryAfterDelay() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "0.1");
+        HttpClientErrorException tooManyRequests = HttpClientErrorException.create(
+                HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", headers, new byte[0], StandardCharsets.UTF_8);
+        when(restTemplate.postForEntity(eq(URL), any(), eq(String.class)))
+                .thenThrow(tooManyRequests)
+                .thenReturn(ResponseEntity.noContent().build());
+        discord = new DiscordWebhookCreator(restTemplate, URL, 10, 0);
+
+        discord.sendMessage("로그인 알림");
+
+        assertThat(sentContents(2)).containsExactly("로그인 알림", "로그인 알림");
+    }
+
+    @Test
+    @DisplayName("sendMessage: 대기열이 가득 차면 버리고 버린 건수를 다음 발송에 요약")
+    void sendMessage_overflow_shouldDropAndSummarize() throws InterruptedException {
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(restTemplate.postForEntity(eq(URL), any(), eq(String.class)))
+                .thenAnswer(invocation -> {
+                    sending.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return ResponseEntity.noContent().build();
+                })
+                .thenReturn(ResponseEntity.noContent().build());
+        discord = new DiscordWebhookCreator(restTemplate, URL, 2, 0);
+
+        discord.sendMessage("첫 알림");
+        assertThat(sending.await(2, TimeUnit.SECONDS)).isTrue();
+        for (int i = 1; i <= 5; i++) {
+            discord.sendMessage("알림 " + i);
+        }
+        release.countDown();
+
+        List<String> contents = sentContents(2);
+        assertThat(contents.get(1)).startsWith("알림 1\n\n알림 2").contains("알림 3건이 대기열 초과로 생략되었습니다");
+    }
+
+    @Test
+    @DisplayName("deliver: 호출한 스레드에서 바로 보내고 실패하면 false")
+    void deliver_shouldSendSynchronouslyAndReportFailure() {
+        when(restTemplate.postForEntity(eq(URL), any(), eq(String.class)))
+                .thenReturn(ResponseEntity.noContent().build())
+                .thenThrow(new ResourceAccessException("connection refused"));
+        discord = new DiscordWebhookCreator(restTemplate, URL, 10, 0);
+
+        assertThat(discord.deliver(List.of("a", "b"))).isTrue();
+        assertThat(discord.deliver(List.of("c"))).isFalse();
+        assertThat(sentContents(2)).containsExactly("a\n\nb", "c");
+    }
+
+    @Test
+    @DisplayName("coalesce: 합친 내용이 2000자를 넘으면 나눠서 보냄")
+    void coalesce_shouldSplitAtContentLimit() {
+        String longMessage = "가".repeat(1500);
+
+        List<String> payloads = DiscordWebhookCreator.coalesce(List.of(longMessage, longMessage, "짧은 알림"));
+
+        assertThat(payloads).hasSize(2);
+        assertThat(payloads).allSatisfy(payload ->
+                assertThat(payload.length()).isLessThanOrEqualTo(DiscordWebhookCreator.MAX_CONTENT_LENGTH));
+        assertThat(payloads.get(1)).endsWith("짧은 알림");
+    }
+}
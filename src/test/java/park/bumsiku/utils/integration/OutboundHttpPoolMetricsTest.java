@@ -0,0 +1,93 @@
+package park.bumsiku.utils.integration;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import park.bumsiku.config.AppConfig;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OutboundHttpPoolMetricsTest {
+
+    private HttpServer server;
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+    private RestTemplate restTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private OutboundHttpPoolMetrics poolMetrics;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ok", exchange -> {
+            byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(1_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.start();
+
+        AppConfig appConfig = new AppConfig();
+        connectionManager = appConfig.outboundConnectionManager(4, 2, 500, 200);
+        httpClient = appConfig.outboundHttpClient(connectionManager, 200, 200);
+        restTemplate = appConfig.restTemplate(new RestTemplateBuilder(), httpClient);
+        meterRegistry = new SimpleMeterRegistry();
+        poolMetrics = new OutboundHttpPoolMetrics(connectionManager, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        httpClient.close();
+        connectionManager.close();
+        server.stop(0);
+    }
+
+    private String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
+    @Test
+    @DisplayName("요청이 끝난 연결은 풀에 남아 재사용되고 호스트별 게이지로 노출")
+    void request_shouldKeepConnectionAliveAndExposeHostGauges() {
+        assertThat(restTemplate.getForObject(url("/ok"), String.class)).isEqualTo("ok");
+        assertThat(restTemplate.getForObject(url("/ok"), String.class)).isEqualTo("ok");
+
+        poolMetrics.registerRoutes();
+
+        String host = "127.0.0.1:" + server.getAddress().getPort();
+        assertThat(meterRegistry.get("outbound.http.pool.available").tag("host", host).gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("outbound.http.pool.leased").tag("host", host).gauge().value()).isZero();
+        assertThat(meterRegistry.get("outbound.http.pool.max").tag("host", "all").gauge().value()).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("응답이 읽기 제한 시간을 넘기면 ResourceAccessException")
+    void request_slowServer_shouldTimeOut() {
+        assertThatThrownBy(() -> restTemplate.getForObject(url("/slow"), String.class))
+                .isInstanceOf(ResourceAccessException.class);
+    }
+}
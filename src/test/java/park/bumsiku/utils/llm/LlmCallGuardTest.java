@@ -0,0 +1,206 @@
+package park.bumsiku.utils.llm;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.prompt.ChatOptions;
+import park.bumsiku.utils.exceptions.TooManyRequestsException;
+import park.bumsiku.utils.exceptions.UpstreamTimeoutException;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LlmCallGuardTest {
+
+    private MeterRegistry meterRegistry;
+    private LlmCallGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (guard != null) {
+            guard.shutdown();
+        }
+    }
+
+    private double outcome(String outcome) {
+        return meterRegistry.get("llm.calls").tag("outcome", outcome).counter().count();
+    }
+
+    private static String sleepAndReturn(long millis, String value) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+
+    @Test
+    @DisplayName("call: 동시 호출 한도를 넘으면 기다리지 않고 TooManyRequestsException")
+    void call_bulkheadFull_shouldReject() throws Exception {
+        guard = new LlmCallGuard(meterRegistry, 1, 0, 5_000, "", 1000, false);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> guard.call(options -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "first";
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> guard.call(options -> "second"))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(outcome("rejected")).isEqualTo(1.0);
+        assertThat(outcome("success")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("call: 대기 시간을 주면 허가가 날 때까지 기다렸다가 호출")
+    void call_withMaxWait_shouldWaitForPermit() throws Exception {
+        guard = new LlmCallGuard(meterRegistry, 1, 0, 5_000, "", 1000, false);
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> guard.call(options -> {
+            started.countDown();
+            return sleepAndReturn(200, "first");
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        String second = guard.call(options -> "second", 5_000);
+
+        assertThat(second).isEqualTo("second");
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(outcome("rejected")).isZero();
+        assertThat(outcome("success")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("call: 마감 시간을 넘기면 UpstreamTimeoutException")
+    void call_slowModel_shouldTimeOut() {
+        guard = new LlmCallGuard(meterRegistry, 2, 0, 100, "", 1000, false);
+
+        assertThatThrownBy(() -> guard.call(options -> sleepAndReturn(1_000, "late")))
+                .isInstanceOf(UpstreamTimeoutException.class);
+        assertThat(outcome("timeout")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("call: 마감을 넘긴 호출은 인터럽트하고, 실제로 끝날 때까지 허가를 쥐고 있음")
+    void call_timedOut_shouldInterruptAndHoldPermitUntilCallEnds() throws Exception {
+        guard = new LlmCallGuard(meterRegistry, 1, 0, 100, "", 1000, false);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        assertThatThrownBy(() -> guard.call(options -> {
+            // 인터럽트에 반응하지 않는 HTTP 읽기처럼 release 까지 계속 실행
+            while (release.getCount() > 0) {
+                if (Thread.interrupted()) {
+                    interrupted.countDown();
+                }
+                Thread.onSpinWait();
+            }
+            return "late";
+        })).isInstanceOf(UpstreamTimeoutException.class);
+
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThatThrownBy(() -> guard.call(options -> "second"))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        String result = null;
+        while (result == null && System.nanoTime() < deadline) {
+            try {
+                result = guard.call(options -> "third");
+            } catch (TooManyRequestsException stillRunning) {
+                Thread.sleep(10);
+            }
+        }
+        assertThat(result).isEqualTo("third");
+    }
+
+    @Test
+    @DisplayName("call: 허가가 남지 않으면 헤지하지 않고 본 요청을 기다림")
+    void call_noPermitForHedge_shouldWaitForPrimary() {
+        guard = new LlmCallGuard(meterRegistry, 1, 0, 2_000, "gpt-4.1-mini", 50, false);
+        List<String> models = new CopyOnWriteArrayList<>();
+
+        String result = guard.call((ChatOptions options) -> {
+            if (options == null) {
+                return sleepAndReturn(300, "primary");
+            }
+            models.add(options.getModel());
+            return "fallback";
+        });
+
+        assertThat(result).isEqualTo("primary");
+        assertThat(models).isEmpty();
+        assertThat(outcome("success")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("call: 본 요청이 느리면 대체 모델로 헤지하고 먼저 온 응답을 사용")
+    void call_slowPrimary_shouldUseHedgedResponse() {
+        guard = new LlmCallGuard(meterRegistry, 2, 0, 2_000, "gpt-4.1-mini", 50, false);
+        List<String> models = new CopyOnWriteArrayList<>();
+
+        String result = guard.call((ChatOptions options) -> {
+            if (options == null) {
+                return sleepAndReturn(1_500, "primary");
+            }
+            models.add(options.getModel());
+            return "fallback";
+        });
+
+        assertThat(result).isEqualTo("fallback");
+        assertThat(models).containsExactly("gpt-4.1-mini");
+        assertThat(outcome("hedge_won")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("call: 헤지 전에 응답이 오면 대체 모델을 호출하지 않음")
+    void call_fastPrimary_shouldNotHedge() {
+        guard = new LlmCallGuard(meterRegistry, 2, 0, 2_000, "gpt-4.1-mini", 500, false);
+
+        String result = guard.call(options -> options == null ? "primary" : "fallback");
+
+        assertThat(result).isEqualTo("primary");
+        assertThat(outcome("success")).isEqualTo(1.0);
+        assertThat(outcome("hedge_won")).isZero();
+    }
+
+    @Test
+    @DisplayName("stream: 토큰이 오지 않으면 UpstreamTimeoutException 으로 끝나고 허가를 반환")
+    void stream_stalled_shouldTimeOutAndReleasePermit() {
+        // doFinally 는 오류 신호를 전달한 뒤 실행되므로 다음 구독이 허가를 잠시 기다릴 수 있게 함
+        guard = new LlmCallGuard(meterRegistry, 1, 1_000, 100, "", 1000, false);
+
+        assertThatThrownBy(() -> guard.stream(Flux::<String>never).blockLast())
+                .isInstanceOf(UpstreamTimeoutException.class);
+        assertThat(guard.stream(() -> Flux.just("a", "b")).collectList().block())
+                .containsExactly("a", "b");
+        assertThat(outcome("timeout")).isEqualTo(1.0);
+        assertThat(outcome("success")).isEqualTo(1.0);
+    }
+}
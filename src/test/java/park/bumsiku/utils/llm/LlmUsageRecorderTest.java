@@ -0,0 +1,132 @@
+package park.bumsiku.utils.llm;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.metadata.ChatResponseMetadata;
+import org.springframework.ai.chat.metadata.DefaultUsage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import reactor.core.publisher.Flux;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.offset;
+
+class LlmUsageRecorderTest {
+
+    private static final String MODEL = "gpt-4.1-nano";
+    private static final Instant NOW = Instant.parse("2025-06-01T00:00:00Z");
+
+    private MeterRegistry meterRegistry;
+    private MutableClock clock;
+    private LlmUsageRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock(NOW);
+        recorder = new LlmUsageRecorder(meterRegistry, clock, MODEL + "=0.10/0.40", 60);
+    }
+
+    private static ChatResponse response(String text, int promptTokens, int completionTokens) {
+        List<Generation> generations = text == null ? List.of() : List.of(new Generation(new AssistantMessage(text)));
+        ChatResponseMetadata metadata = promptTokens == 0 && completionTokens == 0
+                ? ChatResponseMetadata.builder().build()
+                : ChatResponseMetadata.builder().usage(new DefaultUsage(promptTokens, completionTokens)).build();
+        return new ChatResponse(generations, metadata);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> model(Map<String, Object> snapshot) {
+        return (Map<String, Object>) ((Map<String, Object>) snapshot.get("models")).get(MODEL);
+    }
+
+    @Test
+    @DisplayName("record: 블로킹 호출의 토큰·지연·비용을 모델 태그로 기록하고 응답 텍스트를 반환")
+    void record_call_shouldRecordUsageAndCost() {
+        String text = recorder.record(MODEL, response("요약", 1_000, 500), System.nanoTime());
+
+        assertThat(text).isEqualTo("요약");
+        assertThat(meterRegistry.get("llm.tokens.prompt").tag("model", MODEL).summary().totalAmount()).isEqualTo(1_000);
+        assertThat(meterRegistry.get("llm.tokens.completion").tag("model", MODEL).summary().totalAmount()).isEqualTo(500);
+        assertThat(meterRegistry.get("llm.latency").tag("model", MODEL).tag("mode", "call").timer().count()).isEqualTo(1);
+        // 1000 * 0.10 / 1M + 500 * 0.40 / 1M
+        assertThat(meterRegistry.get("llm.cost").tag("model", MODEL).counter().count()).isCloseTo(0.0003, offset(1e-9));
+
+        Map<String, Object> stats = model(recorder.snapshot());
+        assertThat(stats.get("calls")).isEqualTo(1L);
+        assertThat(stats.get("promptTokens")).isEqualTo(1_000L);
+        assertThat(stats.get("latencyMillis")).isInstanceOf(Map.class);
+        assertThat(((Map<?, ?>) stats.get("latencyMillis")).keySet()).containsExactly("p50", "p95", "p99");
+    }
+
+    @Test
+    @DisplayName("record: 스트림은 첫 토큰 시간을 기록하고 마지막 청크의 사용량을 반영")
+    void record_stream_shouldRecordTimeToFirstTokenAndTrailingUsage() {
+        Flux<ChatResponse> chunks = Flux.just(response("안녕", 0, 0), response(" 하세요", 0, 0), response(null, 10, 2))
+                .delayElements(Duration.ofMillis(20));
+
+        List<String> tokens = recorder.record(MODEL, chunks).collectList().block();
+
+        assertThat(tokens).containsExactly("안녕", " 하세요");
+        assertThat(meterRegistry.get("llm.ttft").tag("model", MODEL).timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("llm.latency").tag("model", MODEL).tag("mode", "stream").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("llm.tokens.completion").tag("model", MODEL).summary().totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("snapshot: 집계 구간이 지난 호출은 비용 합계에서 빠짐")
+    void snapshot_shouldDropCallsOutsideWindow() {
+        recorder.record(MODEL, response("요약", 1_000_000, 0), System.nanoTime());
+        clock.instant = NOW.plus(Duration.ofMinutes(30));
+        recorder.record(MODEL, response("요약", 1_000_000, 0), System.nanoTime());
+
+        assertThat(recorder.snapshot().get("totalCostUsd")).isEqualTo(0.2);
+
+        clock.instant = NOW.plus(Duration.ofMinutes(70));
+        assertThat(recorder.snapshot().get("totalCostUsd")).isEqualTo(0.1);
+    }
+
+    @Test
+    @DisplayName("parsePricing: 형식이 잘못된 단가 설정은 IllegalArgumentException")
+    void parsePricing_invalid_shouldThrow() {
+        assertThat(LlmUsageRecorder.parsePricing("a=1/2, b=0.5/1.5"))
+                .containsOnlyKeys("a", "b");
+        assertThatThrownBy(() -> LlmUsageRecorder.parsePricing("gpt-4.1-nano=0.10"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("Asia/Seoul");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
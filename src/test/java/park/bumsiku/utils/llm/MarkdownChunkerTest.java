@@ -0,0 +1,84 @@
+package park.bumsiku.utils.llm;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MarkdownChunkerTest {
+
+    @Test
+    @DisplayName("estimateTokens: 영문은 약 4글자당 1토큰, 한글은 글자당 1토큰")
+    void estimateTokens_shouldWeighNonAsciiHigher() {
+        assertThat(MarkdownChunker.estimateTokens("abcdefgh")).isEqualTo(2);
+        assertThat(MarkdownChunker.estimateTokens("가나다")).isEqualTo(3);
+        assertThat(MarkdownChunker.estimateTokens("")).isZero();
+    }
+
+    @Test
+    @DisplayName("needsChunking: 한도를 넘는 원문만 조각 모드")
+    void needsChunking_shouldCompareAgainstSingleShotBudget() {
+        MarkdownChunker chunker = new MarkdownChunker(10, 5);
+
+        assertThat(chunker.needsChunking("짧은 글")).isFalse();
+        assertThat(chunker.needsChunking("가".repeat(11))).isTrue();
+    }
+
+    @Test
+    @DisplayName("split: 제목 경계에서 나누고 코드 블록 안의 # 은 제목으로 보지 않음")
+    void split_shouldBreakAtHeadingsOutsideCodeFences() {
+        MarkdownChunker chunker = new MarkdownChunker(10, 20);
+        String text = """
+                # First
+                alpha beta gamma
+                ```
+                # comment inside code
+                ```
+                # Second
+                delta epsilon zeta
+                """;
+
+        List<String> chunks = chunker.split(text);
+
+        assertThat(chunks).hasSize(2);
+        assertThat(chunks.get(0)).startsWith("# First").contains("# comment inside code");
+        assertThat(chunks.get(1)).startsWith("# Second");
+    }
+
+    @Test
+    @DisplayName("split: # 뒤에 공백이 없는 줄(#include, #1)은 제목으로 보지 않음")
+    void split_shouldOnlyBreakAtAtxHeadings() {
+        MarkdownChunker chunker = new MarkdownChunker(10, 20);
+        String text = """
+                # First
+                alpha beta
+                #include <stdio.h>
+                #1 issue
+                ####### seven
+                ## Second
+                gamma delta
+                """;
+
+        List<String> chunks = chunker.split(text);
+
+        assertThat(chunks).hasSize(2);
+        assertThat(chunks.get(0)).startsWith("# First").contains("#include").contains("#1 issue").contains("####### seven");
+        assertThat(chunks.get(1)).startsWith("## Second");
+    }
+
+    @Test
+    @DisplayName("split: 작은 섹션은 예산 안에서 묶고, 큰 섹션은 예산 이하로 자름")
+    void split_shouldPackSmallSectionsAndCutLargeOnes() {
+        MarkdownChunker chunker = new MarkdownChunker(10, 20);
+        String text = "# A\nshort\n# B\nshort\n# C\n" + "가".repeat(50);
+
+        List<String> chunks = chunker.split(text);
+
+        assertThat(chunks.get(0)).contains("# A").contains("# B");
+        assertThat(chunks).allSatisfy(chunk -> assertThat(MarkdownChunker.estimateTokens(chunk)).isLessThanOrEqualTo(20));
+        assertThat(String.join("", chunks).replaceAll("\\s", ""))
+                .isEqualTo(text.replaceAll("\\s", ""));
+    }
+}